@@ -18,11 +18,13 @@
 package org.ballerinalang.natives.annotation.processor;
 
 import org.ballerinalang.natives.annotation.processor.holders.PackageHolder;
+import org.ballerinalang.util.repository.BuiltinPackageRepository;
 
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
@@ -32,8 +34,11 @@ import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Builder class to generate ballerina files for the native APIs.
@@ -41,6 +46,7 @@ import java.util.stream.Collectors;
 public class NativeBallerinaFileBuilder {
 
     private static final PrintStream ERROR = System.err;
+    private static final String BAL_FILE_EXT = ".bal";
     private Map<String, PackageHolder> nativePackages;
     private String targetDirectory;
     private String balSourceDir;
@@ -87,6 +93,40 @@ public class NativeBallerinaFileBuilder {
         } catch (IOException e) {
             ERROR.println("failed to move native ballerina files. cause: " + e);
         }
+
+        writePackageIndex();
+    }
+
+    /**
+     * Write the index of the built-in packages, which lists the ballerina files of each package. The package
+     * repository reads this index instead of searching the jar for the files of a package.
+     * <p>
+     * The index is read as a properties file. It is written line by line in package order, rather than through
+     * {@link java.util.Properties#store}, which adds a timestamp and would make the jar differ from build to build.
+     */
+    private void writePackageIndex() {
+        Path target = Paths.get(targetDirectory);
+        Map<String, List<Path>> packageFiles;
+        try (Stream<Path> files = Files.walk(target)) {
+            packageFiles = files.filter(file -> file.getFileName().toString().endsWith(BAL_FILE_EXT))
+                    .collect(Collectors.groupingBy(file -> target.relativize(file.getParent()).toString()
+                            .replace(File.separator, "/"), TreeMap::new, Collectors.toList()));
+        } catch (IOException e) {
+            ERROR.println("failed to list native ballerina files. cause: " + e);
+            return;
+        }
+
+        try (BufferedWriter writer = Files.newBufferedWriter(
+                target.resolve(BuiltinPackageRepository.PACKAGE_INDEX_FILE), StandardCharsets.ISO_8859_1)) {
+            for (Map.Entry<String, List<Path>> entry : packageFiles.entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue().stream()
+                        .map(file -> file.getFileName().toString())
+                        .sorted()
+                        .collect(Collectors.joining(",")) + "\n");
+            }
+        } catch (IOException e) {
+            ERROR.println("failed to write the native package index. cause: " + e);
+        }
     }
 
     /**
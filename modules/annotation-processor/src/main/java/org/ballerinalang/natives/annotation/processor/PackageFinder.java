@@ -51,6 +51,10 @@ public class PackageFinder extends SimpleFileVisitor<Path>  {
 
     @Override
     public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+        // Skip the package index and any other non ballerina file
+        if (!file.getFileName().toString().endsWith(".bal")) {
+            return FileVisitResult.CONTINUE;
+        }
         String pkg = basePath.relativize(file.getParent()).toString().replace(File.separator, ".");
         builtInPackages.add(pkg);
         return FileVisitResult.CONTINUE;
@@ -31,8 +31,7 @@ import org.ballerinalang.model.BallerinaFunction;
 import org.ballerinalang.model.Service;
 import org.ballerinalang.model.SymbolName;
 import org.ballerinalang.model.builder.BLangExecutionFlowBuilder;
-import org.ballerinalang.model.values.BArray;
-import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BStringArray;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.services.ErrorHandlerUtils;
 import org.ballerinalang.services.dispatchers.DispatcherRegistry;
@@ -91,9 +90,9 @@ public class BLangProgramRunner {
             BValue[] argValues = new BValue[mainFunction.getStackFrameSize()];
             BValue[] cacheValues = new BValue[mainFunction.getTempStackFrameSize()];
 
-            BArray<BString> arrayArgs = new BArray<>(BString.class);
+            BStringArray arrayArgs = new BStringArray();
             for (int i = 0; i < args.length; i++) {
-                arrayArgs.add(i, new BString(args[i]));
+                arrayArgs.add(i, args[i]);
             }
 
             argValues[0] = arrayArgs;
@@ -107,7 +106,7 @@ public class BLangProgramRunner {
             // Invoke main function
             RuntimeEnvironment runtimeEnv = RuntimeEnvironment.get(bLangProgram);
             if (ModeResolver.getInstance().isDebugEnabled()) {
-                stackFrame.variables.put(new SymbolName("args"), new AbstractMap.SimpleEntry<>(0, "Arg"));
+                stackFrame.getVariables().put(new SymbolName("args"), new AbstractMap.SimpleEntry<>(0, "Arg"));
                 DebugManager debugManager = DebugManager.getInstance();
                 // This will start the websocket server.
                 debugManager.init();
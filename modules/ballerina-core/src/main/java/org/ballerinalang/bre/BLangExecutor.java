@@ -90,7 +90,9 @@ import org.ballerinalang.natives.AbstractNativeFunction;
 import org.ballerinalang.natives.AbstractNativeTypeMapper;
 import org.ballerinalang.natives.connectors.AbstractNativeAction;
 import org.ballerinalang.natives.connectors.AbstractNativeConnector;
+import org.ballerinalang.runtime.worker.ForkJoinScheduler;
 import org.ballerinalang.runtime.worker.WorkerCallback;
+import org.ballerinalang.runtime.worker.WorkerScheduler;
 import org.ballerinalang.services.ErrorHandlerUtils;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
@@ -98,13 +100,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CancellationException;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 
 /**
@@ -120,7 +117,6 @@ public class BLangExecutor implements NodeExecutor {
     private boolean returnedOrReplied;
     private boolean isForkJoinTimedOut;
     private boolean isBreakCalled;
-    private ExecutorService executor;
 
     public BLangExecutor(RuntimeEnvironment runtimeEnv, Context bContext) {
         this.runtimeEnv = runtimeEnv;
@@ -142,7 +138,6 @@ public class BLangExecutor implements NodeExecutor {
     @Override
     public void visit(VariableDefStmt varDefStmt) {
         // TODO This variable definition statement can be modeled exactly same as the assignment statement.
-        // TODO Remove the following duplicate code segments soon.
         BValue rValue;
         Expression lExpr = varDefStmt.getLExpr();
         Expression rExpr = varDefStmt.getRExpr();
@@ -157,41 +152,23 @@ public class BLangExecutor implements NodeExecutor {
             rValue = rExpr.execute(this);
         }
 
-
-        if (lExpr instanceof VariableRefExpr) {
-            assignValueToVarRefExpr(rValue, (VariableRefExpr) lExpr);
-        } else if (lExpr instanceof ArrayMapAccessExpr) {
-            assignValueToArrayMapAccessExpr(rValue, (ArrayMapAccessExpr) lExpr);
-        } else if (lExpr instanceof StructFieldAccessExpr) {
-            assignValueToStructFieldAccessExpr(rValue, (StructFieldAccessExpr) lExpr);
-        }
+        assignValue(rValue, lExpr);
     }
 
     @Override
     public void visit(AssignStmt assignStmt) {
-        // TODO WARN: Implementation of this method is inefficient
-        // TODO We are in the process of refactoring this method, please bear with us.
-        BValue[] rValues;
         Expression rExpr = assignStmt.getRExpr();
-
         Expression[] lExprs = assignStmt.getLExprs();
-        if (lExprs.length > 1) {
-            // This statement contains multiple assignments
-            rValues = ((CallableUnitInvocationExpr) rExpr).executeMultiReturn(this);
-        } else {
-            rValues = new BValue[]{rExpr.execute(this)};
+        if (lExprs.length == 1) {
+            // Single assignments are by far the most common, and do not need an array to hold the value
+            assignValue(rExpr.execute(this), lExprs[0]);
+            return;
         }
 
+        // This statement contains multiple assignments
+        BValue[] rValues = ((CallableUnitInvocationExpr) rExpr).executeMultiReturn(this);
         for (int i = 0; i < lExprs.length; i++) {
-            Expression lExpr = lExprs[i];
-            BValue rValue = rValues[i];
-            if (lExpr instanceof VariableRefExpr) {
-                assignValueToVarRefExpr(rValue, (VariableRefExpr) lExpr);
-            } else if (lExpr instanceof ArrayMapAccessExpr) {
-                assignValueToArrayMapAccessExpr(rValue, (ArrayMapAccessExpr) lExpr);
-            } else if (lExpr instanceof StructFieldAccessExpr) {
-                assignValueToStructFieldAccessExpr(rValue, (StructFieldAccessExpr) lExpr);
-            }
+            assignValue(rValues[i], lExprs[i]);
         }
     }
 
@@ -259,7 +236,7 @@ public class BLangExecutor implements NodeExecutor {
             }
             exception.value().setStackTrace(ErrorHandlerUtils.getMainFuncStackTrace(bContext, null));
             while (bContext.getControlStack().getCurrentFrame() != current) {
-                if (controlStack.getStack().size() > 0) {
+                if (controlStack.size() > 0) {
                     controlStack.popFrame();
                 } else {
                     // Throw this to handle at root error handler.
@@ -342,10 +319,10 @@ public class BLangExecutor implements NodeExecutor {
         workerContext.setBalCallback(workerCallback);
         BLangExecutor workerExecutor = new BLangExecutor(runtimeEnv, workerContext);
 
-        executor = Executors.newSingleThreadExecutor();
         WorkerRunner workerRunner = new WorkerRunner(workerExecutor, workerContext, worker);
-        Future<BMessage> future = executor.submit(workerRunner);
-        worker.setResultFuture(future);
+        Future<BMessage> future = WorkerScheduler.getInstance().submit(workerRunner);
+        // Keep the result in the invoking frame since the worker node is shared by all the concurrent requests
+        controlStack.getCurrentFrame().setWorkerResult(worker, future);
 
 
         //controlStack.popFrame();
@@ -354,24 +331,17 @@ public class BLangExecutor implements NodeExecutor {
     @Override
     public void visit(WorkerReplyStmt workerReplyStmt) {
         Worker worker = workerReplyStmt.getWorker();
-        Future<BMessage> future = worker.getResultFuture();
+        Future<BMessage> future = controlStack.getCurrentFrame().removeWorkerResult(worker);
         try {
             // TODO: Make this value configurable - need grammar level rethink
             BMessage result = future.get(60, TimeUnit.SECONDS);
             VariableRefExpr variableRefExpr = workerReplyStmt.getReceiveExpr();
             assignValueToVarRefExpr(result, variableRefExpr);
-            executor.shutdown();
-            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
-                executor.shutdownNow();
-            }
         } catch (Exception e) {
             // If there is an exception in the worker, set an empty value to the return variable
             BMessage result = BTypes.typeMessage.getDefaultValue();
             VariableRefExpr variableRefExpr = workerReplyStmt.getReceiveExpr();
             assignValueToVarRefExpr(result, variableRefExpr);
-        } finally {
-            // Finally, try again to shutdown if not done already
-            executor.shutdownNow();
         }
     }
 
@@ -416,7 +386,8 @@ public class BLangExecutor implements NodeExecutor {
         BMessage inMsg = (BMessage) expr.execute(this);
         List<WorkerRunner> workerRunnerList = new ArrayList<>();
         List<BMessage> resultMsgs = new ArrayList<>();
-        int timeout = ((BInteger) forkJoinStmt.getTimeout().getTimeoutExpression().execute(this)).intValue();
+        long timeoutMillis = ForkJoinScheduler.toTimeoutMillis(
+                forkJoinStmt.getTimeout().getTimeoutExpression().execute(this));
 
         Worker[] workers = forkJoinStmt.getWorkers();
         Map<String, WorkerRunner> triggeredWorkers = new HashMap<>();
@@ -461,7 +432,7 @@ public class BLangExecutor implements NodeExecutor {
             String[] joinWorkerNames = forkJoinStmt.getJoin().getJoinWorkers();
             if (joinWorkerNames.length == 0) {
                 // If there are no workers specified, wait for any of all the workers
-                BMessage res = invokeAnyWorker(workerRunnerList, timeout);
+                BMessage res = invokeAnyWorker(workerRunnerList, timeoutMillis);
                 if (res != null) {
                     resultMsgs.add(res);
                 }
@@ -470,7 +441,7 @@ public class BLangExecutor implements NodeExecutor {
                 for (String workerName : joinWorkerNames) {
                     workerRunnersSpecified.add(triggeredWorkers.get(workerName));
                 }
-                BMessage res = invokeAnyWorker(workerRunnersSpecified, timeout);
+                BMessage res = invokeAnyWorker(workerRunnersSpecified, timeoutMillis);
                 if (res != null) {
                     resultMsgs.add(res);
                 }
@@ -479,13 +450,13 @@ public class BLangExecutor implements NodeExecutor {
             String[] joinWorkerNames = forkJoinStmt.getJoin().getJoinWorkers();
             if (joinWorkerNames.length == 0) {
                 // If there are no workers specified, wait for all of all the workers
-                resultMsgs.addAll(invokeAllWorkers(workerRunnerList, timeout));
+                resultMsgs.addAll(invokeAllWorkers(workerRunnerList, timeoutMillis));
             } else {
                 List<WorkerRunner> workerRunnersSpecified = new ArrayList<>();
                 for (String workerName : joinWorkerNames) {
                     workerRunnersSpecified.add(triggeredWorkers.get(workerName));
                 }
-                resultMsgs.addAll(invokeAllWorkers(workerRunnersSpecified, timeout));
+                resultMsgs.addAll(invokeAllWorkers(workerRunnersSpecified, timeoutMillis));
             }
         }
 
@@ -525,44 +496,22 @@ public class BLangExecutor implements NodeExecutor {
 
     }
 
-    private BMessage invokeAnyWorker(List<WorkerRunner> workerRunnerList, int timeout) {
-        ExecutorService anyExecutor = Executors.newWorkStealingPool();
-        BMessage result;
-        try {
-            result = anyExecutor.invokeAny(workerRunnerList, timeout, TimeUnit.SECONDS);
-        } catch (InterruptedException | ExecutionException e) {
-            return null;
-        } catch (TimeoutException e) {
+    private BMessage invokeAnyWorker(List<WorkerRunner> workerRunnerList, long timeoutMillis) {
+        ForkJoinScheduler.ForkJoinResult result =
+                ForkJoinScheduler.getInstance().invokeAny(workerRunnerList, timeoutMillis);
+        if (result.isTimedOut()) {
             isForkJoinTimedOut = true;
-            return null;
         }
-        return result;
+        return result.getMessages().isEmpty() ? null : result.getMessages().get(0);
     }
 
-    private List<BMessage> invokeAllWorkers(List<WorkerRunner> workerRunnerList, int timeout) {
-        ExecutorService allExecutor = Executors.newWorkStealingPool();
-        List<BMessage> result = new ArrayList<>();
-        try {
-            allExecutor.invokeAll(workerRunnerList, timeout, TimeUnit.SECONDS).stream().map(bMessageFuture -> {
-                try {
-                    return bMessageFuture.get();
-                } catch (CancellationException e) {
-                    // This means task has been timedout and cancelled by system.
-                    isForkJoinTimedOut = true;
-                    return null;
-                } catch (Exception e) {
-                    return null;
-                }
-
-            }).forEach((BMessage b) -> {
-                if (b != null) {
-                    result.add(b);
-                }
-            });
-        } catch (InterruptedException e) {
-            return result;
+    private List<BMessage> invokeAllWorkers(List<WorkerRunner> workerRunnerList, long timeoutMillis) {
+        ForkJoinScheduler.ForkJoinResult result =
+                ForkJoinScheduler.getInstance().invokeAll(workerRunnerList, timeoutMillis);
+        if (result.isTimedOut()) {
+            isForkJoinTimedOut = true;
         }
-        return result;
+        return result.getMessages();
     }
 
     @Override
@@ -593,8 +542,7 @@ public class BLangExecutor implements NodeExecutor {
 
         // Create a new stack frame with memory locations to hold parameters, local values, temp expression value,
         // return values and function invocation location;
-        CallableUnitInfo functionInfo = new CallableUnitInfo(function.getName(), function.getPackagePath(),
-                funcIExpr.getNodeLocation());
+        CallableUnitInfo functionInfo = funcIExpr.getCallableUnitInfo();
 
         StackFrame stackFrame = new StackFrame(localVals, returnVals, functionInfo);
         controlStack.pushFrame(stackFrame);
@@ -641,8 +589,7 @@ public class BLangExecutor implements NodeExecutor {
 
         // Create a new stack frame with memory locations to hold parameters, local values, temp expression values and
         // return values;
-        CallableUnitInfo actionInfo = new CallableUnitInfo(action.getName(), action.getPackagePath(),
-                actionIExpr.getNodeLocation());
+        CallableUnitInfo actionInfo = actionIExpr.getCallableUnitInfo();
         StackFrame stackFrame = new StackFrame(localVals, returnVals, actionInfo);
         controlStack.pushFrame(stackFrame);
 
@@ -684,8 +631,7 @@ public class BLangExecutor implements NodeExecutor {
 
         BValue[] ret = new BValue[1];
 
-        CallableUnitInfo resourceInfo = new CallableUnitInfo(resource.getName(), resource.getPackagePath(),
-                resource.getNodeLocation());
+        CallableUnitInfo resourceInfo = resourceIExpr.getCallableUnitInfo();
         StackFrame stackFrame = new StackFrame(valueParams, ret, resourceInfo);
         controlStack.pushFrame(stackFrame);
 
@@ -901,8 +847,7 @@ public class BLangExecutor implements NodeExecutor {
 
             // Create a new stack frame with memory locations to hold parameters, local values, temp expression value,
             // return values and function invocation location;
-            CallableUnitInfo functionInfo = new CallableUnitInfo(typeMapper.getTypeMapperName(),
-                    typeMapper.getPackagePath(), typeCastExpression.getNodeLocation());
+            CallableUnitInfo functionInfo = typeCastExpression.getCallableUnitInfo();
 
             StackFrame stackFrame = new StackFrame(localVals, returnVals, functionInfo);
             controlStack.pushFrame(stackFrame);
@@ -1024,6 +969,16 @@ public class BLangExecutor implements NodeExecutor {
         }
     }
 
+    private void assignValue(BValue rValue, Expression lExpr) {
+        if (lExpr instanceof VariableRefExpr) {
+            assignValueToVarRefExpr(rValue, (VariableRefExpr) lExpr);
+        } else if (lExpr instanceof ArrayMapAccessExpr) {
+            assignValueToArrayMapAccessExpr(rValue, (ArrayMapAccessExpr) lExpr);
+        } else if (lExpr instanceof StructFieldAccessExpr) {
+            assignValueToStructFieldAccessExpr(rValue, (StructFieldAccessExpr) lExpr);
+        }
+    }
+
     private void assignValueToVarRefExpr(BValue rValue, VariableRefExpr lExpr) {
         VariableRefExpr variableRefExpr = lExpr;
         MemoryLocation memoryLocation = variableRefExpr.getMemoryLocation();
@@ -35,7 +35,8 @@ public class Context {
     private ControlStack controlStack;
     private CarbonMessage cMsg;
     private BalCallback balCallback;
-    protected Map<String, Object> properties = new HashMap();
+    // Created when the first property is set
+    protected Map<String, Object> properties;
     private CallableUnitInfo serviceInfo;
     private BLangExecutionVisitor executor;
     private Object serverConnectorProtocol;
@@ -58,15 +59,18 @@ public class Context {
     }
 
     public Object getProperty(String key) {
-        return this.properties.get(key);
+        return (this.properties != null) ? this.properties.get(key) : null;
     }
 
     public Map<String, Object> getProperties() {
+        if (this.properties == null) {
+            this.properties = new HashMap<>();
+        }
         return this.properties;
     }
 
     public void setProperty(String key, Object value) {
-        this.properties.put(key, value);
+        getProperties().put(key, value);
     }
 
     public BalCallback getBalCallback() {
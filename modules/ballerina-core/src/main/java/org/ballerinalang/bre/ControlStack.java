@@ -19,31 +19,46 @@ package org.ballerinalang.bre;
 
 import org.ballerinalang.model.values.BValue;
 
+import java.util.Arrays;
+import java.util.EmptyStackException;
 import java.util.Iterator;
-import java.util.Stack;
 
 /**
  * {@code ControlStack} represents function call stack.
+ * <p>
+ * A control stack belongs to a single {@link Context}, and is not synchronized. Frames are held in an array, which
+ * grows as calls are nested.
  *
  * @since 0.8.0
  */
-public class ControlStack {
+public class ControlStack implements Iterable<StackFrame> {
 
-    private Stack<StackFrame> stack;
+    private static final int INITIAL_DEPTH = 16;
+
+    private StackFrame[] frames;
+    private int size;
     private StackFrame currentFrame;
 
     public ControlStack() {
-        stack = new Stack<>();
+        frames = new StackFrame[INITIAL_DEPTH];
     }
 
     public StackFrame pushFrame(StackFrame frame) {
-        currentFrame = stack.push(frame);
+        if (size == frames.length) {
+            frames = Arrays.copyOf(frames, size << 1);
+        }
+        frames[size++] = frame;
+        currentFrame = frame;
         return currentFrame;
     }
 
     public StackFrame popFrame() {
-        StackFrame poppedFrame = stack.pop();
-        currentFrame = (stack.isEmpty()) ? null : stack.peek();
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        StackFrame poppedFrame = frames[--size];
+        frames[size] = null;
+        currentFrame = (size == 0) ? null : frames[size - 1];
         return poppedFrame;
     }
 
@@ -51,6 +66,28 @@ public class ControlStack {
         return currentFrame;
     }
 
+    /**
+     * Get a frame of this stack.
+     *
+     * @param index index of the frame, starting from the bottom of the stack
+     * @return frame at the given index
+     */
+    public StackFrame getFrame(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        return frames[index];
+    }
+
+    /**
+     * Get the number of frames in this stack.
+     *
+     * @return number of frames
+     */
+    public int size() {
+        return size;
+    }
+
     public BValue getValue(int offset) {
         return currentFrame.values[offset];
     }
@@ -62,12 +99,14 @@ public class ControlStack {
     public void setReturnValue(int offset, BValue bValue) {
         currentFrame.returnValues[offset] = bValue;
     }
-    
+
+    /**
+     * Iterate the frames of this stack, from the bottom of the stack to the top.
+     *
+     * @return iterator over the frames
+     */
+    @Override
     public Iterator<StackFrame> iterator() {
-        return this.stack.iterator();
-    }
-    
-    public Stack<StackFrame> getStack() {
-        return this.stack;
+        return Arrays.asList(frames).subList(0, size).iterator();
     }
 }
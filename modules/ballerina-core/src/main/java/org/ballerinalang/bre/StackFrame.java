@@ -18,10 +18,15 @@
 package org.ballerinalang.bre;
 
 import org.ballerinalang.model.SymbolName;
+import org.ballerinalang.model.Worker;
+import org.ballerinalang.model.values.BMessage;
 import org.ballerinalang.model.values.BValue;
 
 import java.util.AbstractMap;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.Future;
 
 /**
  * {@code StackFrame} represents frame in a control stack.
@@ -35,8 +40,10 @@ public class StackFrame {
     private CallableUnitInfo callableUnitInfo;
     // Field for Non-Blocking Implementation.
     public BValue[] tempValues;
-    // Use only in debugger. Added when variables are accessed.
+    // Use only in debugger. Added when variables are accessed, and null until then.
     public HashMap<SymbolName, AbstractMap.SimpleEntry<Integer, String>> variables;
+    // Pending results of the workers invoked within this frame. Created on the first worker invocation.
+    private Map<Worker, Future<BMessage>> workerResults;
 
     public StackFrame(BValue[] values, BValue[] returnValues) {
         this.values = values;
@@ -61,7 +68,6 @@ public class StackFrame {
         this.returnValues = returnValues;
         this.tempValues = tempValues;
         this.callableUnitInfo = callableUnitInfo;
-        variables = new HashMap<>();
     }
 
     /**
@@ -72,4 +78,42 @@ public class StackFrame {
     public CallableUnitInfo getNodeInfo() {
         return this.callableUnitInfo;
     }
+
+    /**
+     * Get the variables accessed within this frame, creating the map on the first access.
+     *
+     * @return variable names mapped to their memory offsets and scopes
+     */
+    public HashMap<SymbolName, AbstractMap.SimpleEntry<Integer, String>> getVariables() {
+        if (variables == null) {
+            variables = new HashMap<>();
+        }
+        return variables;
+    }
+
+    /**
+     * Record the pending result of a worker invoked within this frame.
+     *
+     * @param worker Invoked worker
+     * @param result Future holding the reply of the worker
+     */
+    public void setWorkerResult(Worker worker, Future<BMessage> result) {
+        if (workerResults == null) {
+            workerResults = new IdentityHashMap<>(4);
+        }
+        workerResults.put(worker, result);
+    }
+
+    /**
+     * Remove and return the pending result of a worker invoked within this frame.
+     *
+     * @param worker Invoked worker
+     * @return Future holding the reply of the worker or null if the worker was not invoked within this frame
+     */
+    public Future<BMessage> removeWorkerResult(Worker worker) {
+        if (workerResults == null) {
+            return null;
+        }
+        return workerResults.remove(worker);
+    }
 }
@@ -129,25 +129,23 @@ import org.ballerinalang.model.values.BXML;
 import org.ballerinalang.natives.connectors.AbstractNativeConnector;
 import org.ballerinalang.natives.connectors.BalConnectorCallback;
 import org.ballerinalang.runtime.Constants;
+import org.ballerinalang.runtime.worker.ForkJoinScheduler;
 import org.ballerinalang.runtime.worker.WorkerCallback;
+import org.ballerinalang.runtime.worker.WorkerScheduler;
 import org.ballerinalang.services.ErrorHandlerUtils;
 import org.ballerinalang.util.exceptions.BallerinaException;
 import org.ballerinalang.util.exceptions.FlowBuilderException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Stack;
-import java.util.concurrent.CancellationException;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 /**
  * {@link BLangAbstractExecutionVisitor} defines execution steps of a Ballerina program in Linked Node based execution.
@@ -157,13 +155,12 @@ import java.util.concurrent.TimeoutException;
 public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisitor {
 
     private static final Logger logger = LoggerFactory.getLogger(Constants.BAL_LINKED_INTERPRETER_LOGGER);
-    protected Stack<Integer> branchIDStack;
+    protected Deque<Integer> branchIDStack;
     private RuntimeEnvironment runtimeEnv;
     private Context bContext;
     private ControlStack controlStack;
-    private Stack<TryCatchStackRef> tryCatchStackRefs;
+    private Deque<TryCatchStackRef> tryCatchStackRefs;
     protected LinkedNode next;
-    private ExecutorService executor;
     private ForkJoinInvocationStatus forkJoinInvocationStatus;
     private boolean completed;
 
@@ -171,8 +168,8 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
         this.runtimeEnv = runtimeEnv;
         this.bContext = bContext;
         this.controlStack = bContext.getControlStack();
-        this.branchIDStack = new Stack<>();
-        this.tryCatchStackRefs = new Stack<>();
+        this.branchIDStack = new ArrayDeque<>();
+        this.tryCatchStackRefs = new ArrayDeque<>();
     }
 
     /* Statement nodes. */
@@ -341,10 +338,10 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
         workerContext.setBalCallback(workerCallback);
         BLangExecutor workerExecutor = new BLangExecutor(runtimeEnv, workerContext);
 
-        executor = Executors.newSingleThreadExecutor();
         WorkerRunner workerRunner = new WorkerRunner(workerExecutor, workerContext, worker);
-        Future<BMessage> future = executor.submit(workerRunner);
-        worker.setResultFuture(future);
+        Future<BMessage> future = WorkerScheduler.getInstance().submit(workerRunner);
+        // Keep the result in the invoking frame since the worker node is shared by all the concurrent requests
+        controlStack.getCurrentFrame().setWorkerResult(worker, future);
     }
 
     @Override
@@ -354,23 +351,16 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
         }
         next = workerReplyStmt.next;
         Worker worker = workerReplyStmt.getWorker();
-        Future<BMessage> future = worker.getResultFuture();
+        Future<BMessage> future = controlStack.getCurrentFrame().removeWorkerResult(worker);
         try {
             BMessage result = future.get(60, TimeUnit.SECONDS);
             VariableRefExpr variableRefExpr = workerReplyStmt.getReceiveExpr();
             assignValueToVarRefExpr(result, variableRefExpr);
-            executor.shutdown();
-            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
-                executor.shutdownNow();
-            }
         } catch (Exception e) {
             // If there is an exception in the worker, set an empty value to the return variable
             BMessage result = BTypes.typeMessage.getDefaultValue();
             VariableRefExpr variableRefExpr = workerReplyStmt.getReceiveExpr();
             assignValueToVarRefExpr(result, variableRefExpr);
-        } finally {
-            // Finally, try again to shutdown if not done already
-            executor.shutdownNow();
         }
     }
 
@@ -512,8 +502,7 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
             i++;
         }
         BValue[] ret = new BValue[1];
-        CallableUnitInfo resourceInfo = new CallableUnitInfo(resource.getName(), resource.getPackagePath(),
-                resource.getNodeLocation());
+        CallableUnitInfo resourceInfo = resourceIExpr.getCallableUnitInfo();
 
         BValue[] cacheValues = new BValue[resource.getTempStackFrameSize() + 1];
         StackFrame stackFrame = new StackFrame(valueParams, ret, cacheValues, resourceInfo);
@@ -697,7 +686,8 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
         BMessage inMsg = (BMessage) getTempValue(expr);
         List<WorkerRunner> workerRunnerList = new ArrayList<>();
 
-        int timeout = ((BInteger) getTempValue(forkJoinStmt.getTimeout().getTimeoutExpression())).intValue();
+        long timeoutMillis = ForkJoinScheduler.toTimeoutMillis(
+                getTempValue(forkJoinStmt.getTimeout().getTimeoutExpression()));
 
         Worker[] workers = forkJoinStmt.getWorkers();
         Map<String, WorkerRunner> triggeredWorkers = new HashMap<>();
@@ -742,7 +732,7 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
             String[] joinWorkerNames = forkJoinStmt.getJoin().getJoinWorkers();
             if (joinWorkerNames.length == 0) {
                 // If there are no workers specified, wait for any of all the workers
-                BMessage res = invokeAnyWorker(workerRunnerList, timeout);
+                BMessage res = invokeAnyWorker(workerRunnerList, timeoutMillis);
                 if (res != null) {
                     forkJoinInvocationStatus.resultMsgs.add(res);
                 }
@@ -751,7 +741,7 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
                 for (String workerName : joinWorkerNames) {
                     workerRunnersSpecified.add(triggeredWorkers.get(workerName));
                 }
-                BMessage res = invokeAnyWorker(workerRunnersSpecified, timeout);
+                BMessage res = invokeAnyWorker(workerRunnersSpecified, timeoutMillis);
                 if (res != null) {
                     forkJoinInvocationStatus.resultMsgs.add(res);
                 }
@@ -760,14 +750,14 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
             String[] joinWorkerNames = forkJoinStmt.getJoin().getJoinWorkers();
             if (joinWorkerNames.length == 0) {
                 // If there are no workers specified, wait for all of all the workers
-                forkJoinInvocationStatus.resultMsgs.addAll(invokeAllWorkers(workerRunnerList, timeout));
+                forkJoinInvocationStatus.resultMsgs.addAll(invokeAllWorkers(workerRunnerList, timeoutMillis));
             } else {
                 List<WorkerRunner> workerRunnersSpecified = new ArrayList<>();
                 for (String workerName : joinWorkerNames) {
                     workerRunnersSpecified.add(triggeredWorkers.get(workerName));
                 }
                 forkJoinInvocationStatus.resultMsgs.addAll(
-                        invokeAllWorkers(workerRunnersSpecified, timeout));
+                        invokeAllWorkers(workerRunnersSpecified, timeoutMillis));
             }
         }
 
@@ -805,45 +795,22 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
         forkJoinInvocationStatus = null;
     }
 
-    private BMessage invokeAnyWorker(List<WorkerRunner> workerRunnerList, int timeout) {
-        ExecutorService anyExecutor = Executors.newWorkStealingPool();
-        BMessage result;
-        try {
-            result = anyExecutor.invokeAny(workerRunnerList, timeout, TimeUnit.SECONDS);
-        } catch (InterruptedException | ExecutionException e) {
-            return null;
-        } catch (TimeoutException e) {
+    private BMessage invokeAnyWorker(List<WorkerRunner> workerRunnerList, long timeoutMillis) {
+        ForkJoinScheduler.ForkJoinResult result =
+                ForkJoinScheduler.getInstance().invokeAny(workerRunnerList, timeoutMillis);
+        if (result.isTimedOut()) {
             forkJoinInvocationStatus.timedOut = true;
-            return null;
-            // throw new BallerinaException("Fork-Join statement at " + position + " timed out", e);
         }
-        return result;
+        return result.getMessages().isEmpty() ? null : result.getMessages().get(0);
     }
 
-    private List<BMessage> invokeAllWorkers(List<WorkerRunner> workerRunnerList, int timeout) {
-        ExecutorService allExecutor = Executors.newWorkStealingPool();
-        List<BMessage> result = new ArrayList<>();
-        try {
-            allExecutor.invokeAll(workerRunnerList, timeout, TimeUnit.SECONDS).stream().map(bMessageFuture -> {
-                try {
-                    return bMessageFuture.get();
-                } catch (CancellationException e) {
-                    // This means task has been timedout and cancelled by system.
-                    forkJoinInvocationStatus.timedOut = true;
-                    return null;
-                } catch (Exception e) {
-                    return null;
-                }
-
-            }).forEach((BMessage b) -> {
-                if (b != null) {
-                    result.add(b);
-                }
-            });
-        } catch (InterruptedException e) {
-            return result;
+    private List<BMessage> invokeAllWorkers(List<WorkerRunner> workerRunnerList, long timeoutMillis) {
+        ForkJoinScheduler.ForkJoinResult result =
+                ForkJoinScheduler.getInstance().invokeAll(workerRunnerList, timeoutMillis);
+        if (result.isTimedOut()) {
+            forkJoinInvocationStatus.timedOut = true;
         }
-        return result;
+        return result.getMessages();
     }
 
     @Override
@@ -957,8 +924,7 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
 
         // Create a new stack frame with memory locations to hold parameters, local values, temp expression values and
         // return values;
-        CallableUnitInfo actionInfo = new CallableUnitInfo(action.getName(), action.getPackagePath(),
-                actionIExpr.getNodeLocation());
+        CallableUnitInfo actionInfo = actionIExpr.getCallableUnitInfo();
 
         BValue[] cacheValues = new BValue[actionIExpr.getCallableUnit().getTempStackFrameSize() + 1];
         StackFrame stackFrame = new StackFrame(localVals, returnVals, cacheValues, actionInfo);
@@ -1093,8 +1059,7 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
 
         // Create a new stack frame with memory locations to hold parameters, local values, temp expression value,
         // return values and function invocation location;
-        CallableUnitInfo functionInfo = new CallableUnitInfo(function.getName(), function.getPackagePath(),
-                funcIExpr.getNodeLocation());
+        CallableUnitInfo functionInfo = funcIExpr.getCallableUnitInfo();
 
         BValue[] cacheValue = new BValue[funcIExpr.getCallableUnit().getTempStackFrameSize() + 1];
         StackFrame stackFrame = new StackFrame(localVals, returnVals, cacheValue, functionInfo);
@@ -1184,8 +1149,7 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
 
             // Create a new stack frame with memory locations to hold parameters, local values, temp expression value,
             // return values and function invocation location;
-            CallableUnitInfo functionInfo = new CallableUnitInfo(typeMapper.getTypeMapperName(),
-                    typeMapper.getPackagePath(), typeCastExpression.getNodeLocation());
+            CallableUnitInfo functionInfo = typeCastExpression.getCallableUnitInfo();
 
             BValue[] cacheValue = new BValue[typeCastExpression.getCallableUnit().getTempStackFrameSize() + 1];
             StackFrame stackFrame = new StackFrame(localVals, returnVals, cacheValue, functionInfo);
@@ -1380,7 +1344,7 @@ public abstract class BLangAbstractExecutionVisitor extends BLangExecutionVisito
         TryCatchStackRef ref = tryCatchStackRefs.pop();
         // unwind stack till we found the current frame.
         while (controlStack.getCurrentFrame() != ref.stackFrame) {
-            if (controlStack.getStack().size() > 0) {
+            if (controlStack.size() > 0) {
                 controlStack.popFrame();
             } else {
                 // Something has gone wrong. No StackFrame to pop ? this shouldn't be executed.
@@ -18,15 +18,17 @@
 package org.ballerinalang.model;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.JsonNodeFactory;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BDataTable;
 import org.ballerinalang.model.values.BDataTable.ColumnDefinition;
 import org.ballerinalang.model.values.BJSON.JSONDataSource;
 
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * {@link org.ballerinalang.model.values.BJSON.JSONDataSource} implementation for DataTable.
@@ -40,7 +42,7 @@ public class DataTableJSONDataSource implements JSONDataSource {
     private JSONObjectGenerator objGen;
 
     public DataTableJSONDataSource(BDataTable df) {
-        this(df, new DefaultJSONObjectGenerator());
+        this(df, null);
     }
 
     public DataTableJSONDataSource(BDataTable df, JSONObjectGenerator objGen) {
@@ -51,66 +53,90 @@ public class DataTableJSONDataSource implements JSONDataSource {
     @Override
     public void serialize(JsonGenerator gen) throws IOException {
         gen.writeStartArray();
-        while (this.df.next()) {
-            this.objGen.transform(this.df).serialize(gen, null);
+        if (this.objGen != null) {
+            while (this.df.next()) {
+                this.objGen.transform(this.df).serialize(gen, null);
+            }
+        } else {
+            RowWriter rowWriter = new RowWriter(this.df.getColumnDefs());
+            while (this.df.next()) {
+                rowWriter.write(this.df, gen);
+            }
         }
         gen.writeEndArray();
         this.df.close();
     }
 
     /**
-     * Default {@link DataTableJSONDataSource.JSONObjectGenerator} implementation based
-     * on the datatable's in-built column definition.
+     * Writes the current row of a datatable as a JSON object, based on the datatable's in-built column definition.
+     * The field names and types are resolved once, and the columns are read by index and written to the generator
+     * without building a JSON node for the row.
      */
-    private static class DefaultJSONObjectGenerator implements JSONObjectGenerator {
-
-        @Override
-        public JsonNode transform(BDataTable df) throws IOException {
-            JsonNodeFactory fac = JsonNodeFactory.instance;
-            ObjectNode objNode = fac.objectNode();
-            String name;
-            for (ColumnDefinition col : df.getColumnDefs()) {
-                name = col.getName();
-                switch (col.getType()) {
-                case STRING:
-                    objNode.put(name, df.getString(name));
-                    break;
+    private static class RowWriter {
+
+        private final SerializedString[] names;
+        private final TypeEnum[] types;
+        private final int[] indexes;
+        private final int fieldCount;
+
+        RowWriter(List<ColumnDefinition> columnDefs) {
+            int count = columnDefs.size();
+            names = new SerializedString[count];
+            types = new TypeEnum[count];
+            indexes = new int[count];
+            Set<String> seenNames = new HashSet<>();
+            int fieldCount = 0;
+            for (int i = 0; i < count; i++) {
+                ColumnDefinition col = columnDefs.get(i);
+                // Array and map columns are not written yet. A repeated column name is written once, with the value
+                // of the first column of that name.
+                if (col.getType() == TypeEnum.ARRAY || col.getType() == TypeEnum.MAP
+                        || !seenNames.add(col.getName())) {
+                    continue;
+                }
+                names[fieldCount] = new SerializedString(col.getName());
+                types[fieldCount] = col.getType();
+                indexes[fieldCount] = i + 1;
+                fieldCount++;
+            }
+            this.fieldCount = fieldCount;
+        }
+
+        void write(BDataTable df, JsonGenerator gen) throws IOException {
+            gen.writeStartObject();
+            for (int i = 0; i < fieldCount; i++) {
+                int index = indexes[i];
+                gen.writeFieldName(names[i]);
+                switch (types[i]) {
                 case INT:
-                    objNode.put(name, df.getInt(name));
+                    gen.writeNumber(df.getInt(index));
                     break;
                 case LONG:
-                    objNode.put(name, df.getLong(name));
+                    gen.writeNumber(df.getLong(index));
                     break;
                 case DOUBLE:
-                    objNode.put(name, df.getDouble(name));
+                    gen.writeNumber(df.getDouble(index));
                     break;
                 case FLOAT:
-                    objNode.put(name, df.getFloat(name));
+                    gen.writeNumber(df.getFloat(index));
                     break;
                 case BOOLEAN:
-                    objNode.put(name, df.getBoolean(name));
-                    break;
-                case ARRAY:
-                    //TODO: ARRAY
+                    gen.writeBoolean(df.getBoolean(index));
                     break;
                 case JSON:
-                    objNode.set(name, new ObjectMapper().readTree(""));
-                    break;
-                case MAP:
-                    //TODO: MAP
+                    gen.writeNull();
                     break;
                 case XML:
-                    objNode.put(name, "");
                     //TODO: get XML
+                    gen.writeString("");
                     break;
                 default:
-                    objNode.put(name, df.getString(name));
+                    gen.writeString(df.getString(index));
                     break;
                 }
             }
-            return objNode;
+            gen.writeEndObject();
         }
-
     }
 
     /**
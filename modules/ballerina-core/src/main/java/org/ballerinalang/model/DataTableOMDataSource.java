@@ -18,8 +18,10 @@
 package org.ballerinalang.model;
 
 import org.apache.axiom.om.ds.AbstractPushOMDataSource;
+import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BDataTable;
 
+import java.util.List;
 import java.util.Map;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
@@ -50,38 +52,49 @@ public class DataTableOMDataSource extends AbstractPushOMDataSource {
 
     @Override
     public void serialize(XMLStreamWriter xmlStreamWriter) throws XMLStreamException {
+        // Column names and types are resolved once, and the columns are read by index
+        List<BDataTable.ColumnDefinition> columnDefs = dataTable.getColumnDefs();
+        int columnCount = columnDefs.size();
+        String[] names = new String[columnCount];
+        TypeEnum[] types = new TypeEnum[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            names[i] = columnDefs.get(i).getName();
+            types[i] = columnDefs.get(i).getType();
+        }
+
         xmlStreamWriter.writeStartElement(this.rootWrapper);
         while (dataTable.next()) {
             xmlStreamWriter.writeStartElement(this.rowWrapper);
-            for (BDataTable.ColumnDefinition col : dataTable.getColumnDefs()) {
+            for (int i = 0; i < columnCount; i++) {
+                int index = i + 1;
                 boolean isArray = false;
-                xmlStreamWriter.writeStartElement(col.getName());
+                xmlStreamWriter.writeStartElement(names[i]);
                 String value = null;
-                switch (col.getType()) {
+                switch (types[i]) {
                 case BOOLEAN:
-                    value = String.valueOf(dataTable.getBoolean(col.getName()));
+                    value = String.valueOf(dataTable.getBoolean(index));
                     break;
                 case STRING:
-                    value = dataTable.getString(col.getName());
+                    value = dataTable.getString(index);
                     break;
                 case INT:
-                    value = String.valueOf(dataTable.getInt(col.getName()));
+                    value = String.valueOf(dataTable.getInt(index));
                     break;
                 case LONG:
-                    value = String.valueOf(dataTable.getLong(col.getName()));
+                    value = String.valueOf(dataTable.getLong(index));
                     break;
                 case FLOAT:
-                    value = String.valueOf(dataTable.getFloat(col.getName()));
+                    value = String.valueOf(dataTable.getFloat(index));
                     break;
                 case DOUBLE:
-                    value = String.valueOf(dataTable.getDouble(col.getName()));
+                    value = String.valueOf(dataTable.getDouble(index));
                     break;
                 case ARRAY:
                     isArray = true;
-                    processArray(xmlStreamWriter, col);
+                    processArray(xmlStreamWriter, index);
                     break;
                 default:
-                    value = dataTable.getObjectAsString(col.getName());
+                    value = dataTable.getObjectAsString(index);
                     break;
                 }
                 if (!isArray) {
@@ -101,9 +114,8 @@ public class DataTableOMDataSource extends AbstractPushOMDataSource {
         xmlStreamWriter.flush();
     }
 
-    private void processArray(XMLStreamWriter xmlStreamWriter, BDataTable.ColumnDefinition col)
-            throws XMLStreamException {
-        Map<String, Object> array = dataTable.getArray(col.getName());
+    private void processArray(XMLStreamWriter xmlStreamWriter, int index) throws XMLStreamException {
+        Map<String, Object> array = dataTable.getArray(index);
         if (array != null && !array.isEmpty()) {
             for (Map.Entry<String, Object> values : array.entrySet()) {
                 xmlStreamWriter.writeStartElement(ARRAY_ELEMENT_NAME);
@@ -19,6 +19,7 @@
 package org.ballerinalang.model;
 
 import org.ballerinalang.model.builder.CallableUnitBuilder;
+import org.ballerinalang.model.expressions.ResourceInvocationExpr;
 import org.ballerinalang.model.statements.BlockStmt;
 import org.ballerinalang.model.symbols.BLangSymbol;
 import org.ballerinalang.model.types.BType;
@@ -67,6 +68,7 @@ public class Resource implements Node, SymbolScope, CallableUnit {
     private SymbolScope enclosingScope;
     private Map<SymbolName, BLangSymbol> symbolMap;
     private int tempStackFrameSize;
+    private volatile ResourceInvocationExpr resourceInvocationExpr;
 
     private Resource(SymbolScope enclosingScope) {
         this.enclosingScope = enclosingScope;
@@ -131,6 +133,19 @@ public class Resource implements Node, SymbolScope, CallableUnit {
         return tempStackFrameSize;
     }
 
+    /**
+     * Get the expression which binds the parameters of this resource when a request is dispatched to it.
+     *
+     * @return resource invocation expression, or null if it has not been created yet
+     */
+    public ResourceInvocationExpr getResourceInvocationExpr() {
+        return resourceInvocationExpr;
+    }
+
+    public void setResourceInvocationExpr(ResourceInvocationExpr resourceInvocationExpr) {
+        this.resourceInvocationExpr = resourceInvocationExpr;
+    }
+
     @Override
     public void setTempStackFrameSize(int stackFrameSize) {
         if (this.tempStackFrameSize > 0 && stackFrameSize != this.tempStackFrameSize) {
@@ -18,6 +18,7 @@
 
 package org.ballerinalang.model;
 
+import org.ballerinalang.bre.CallableUnitInfo;
 import org.ballerinalang.model.builder.CallableUnitGroupBuilder;
 import org.ballerinalang.model.statements.VariableDefStmt;
 import org.ballerinalang.model.symbols.BLangSymbol;
@@ -63,6 +64,7 @@ public class Service implements CompilationUnit, SymbolScope, BLangSymbol {
     // Here we need to link a service with it's program. We execute the matching resource
     // when a request is made. At that point, we need to access runtime environment to execute the resource.
     private BLangProgram bLangProgram;
+    private volatile CallableUnitInfo serviceInfo;
 
     private Service(SymbolScope enclosingScope) {
         this.enclosingScope = enclosingScope;
@@ -115,6 +117,18 @@ public class Service implements CompilationUnit, SymbolScope, BLangSymbol {
         this.bLangProgram = bLangProgram;
     }
 
+    /**
+     * Get the information of this service, which is printed at the end of the stack traces of its resources.
+     *
+     * @return information of this service
+     */
+    public CallableUnitInfo getServiceInfo() {
+        if (serviceInfo == null) {
+            serviceInfo = new CallableUnitInfo(getName(), getPackagePath(), location);
+        }
+        return serviceInfo;
+    }
+
     // Methods in Node interface
 
     @Override
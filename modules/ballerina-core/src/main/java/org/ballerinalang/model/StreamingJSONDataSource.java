@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.model;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonParser.Feature;
+import org.ballerinalang.model.values.BJSON.JSONDataSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * {@link org.ballerinalang.model.values.BJSON.JSONDataSource} implementation for a JSON payload read from a stream.
+ * <p>
+ * The payload is kept as raw bytes and is only tokenized when it is read. Unlike a JSON tree, which takes several
+ * times the size of the payload, this holds a single copy of the payload.
+ *
+ * @since 0.8.0
+ */
+public class StreamingJSONDataSource implements JSONDataSource {
+
+    private static final JsonFactory JSON_FAC = new JsonFactory();
+
+    static {
+        JSON_FAC.configure(Feature.ALLOW_SINGLE_QUOTES, true);
+    }
+
+    private InputStream in;
+
+    private byte[] content;
+
+    private int length;
+
+    public StreamingJSONDataSource(InputStream in) {
+        this.in = in;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen) throws IOException {
+        try (JsonParser parser = createParser()) {
+            parser.nextToken();
+            gen.copyCurrentStructure(parser);
+        }
+    }
+
+    /**
+     * Write the payload to the given stream as it was received, without parsing it.
+     *
+     * @param out stream to write the payload to
+     * @throws IOException if the payload cannot be read or written
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        byte[] payload = getContent();
+        out.write(payload, 0, length);
+    }
+
+    /**
+     * Create a parser which reads the payload from the beginning.
+     *
+     * @return parser positioned before the first token of the payload
+     * @throws IOException if the payload cannot be read
+     */
+    public JsonParser createParser() throws IOException {
+        byte[] payload = getContent();
+        return JSON_FAC.createParser(payload, 0, length);
+    }
+
+    /**
+     * Read the payload into memory once, so that it can be tokenized again and written out as it was received.
+     * The payload is read into a buffer which grows as needed and is used as it is, without copying it to a buffer
+     * of the exact size.
+     *
+     * @return buffer holding the payload in its first {@code length} bytes
+     * @throws IOException if the payload cannot be read
+     */
+    private synchronized byte[] getContent() throws IOException {
+        if (content == null) {
+            byte[] buffer = new byte[8192];
+            int count = 0;
+            try (InputStream input = in) {
+                int read;
+                while ((read = input.read(buffer, count, buffer.length - count)) != -1) {
+                    count += read;
+                    if (count == buffer.length) {
+                        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                    }
+                }
+            }
+            length = count;
+            content = buffer;
+            in = null;
+        }
+        return content;
+    }
+}
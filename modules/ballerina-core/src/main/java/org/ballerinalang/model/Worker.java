@@ -22,13 +22,11 @@ import org.ballerinalang.model.builder.CallableUnitBuilder;
 import org.ballerinalang.model.statements.BlockStmt;
 import org.ballerinalang.model.symbols.BLangSymbol;
 import org.ballerinalang.model.types.BType;
-import org.ballerinalang.model.values.BMessage;
 import org.ballerinalang.util.exceptions.FlowBuilderException;
 
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.Future;
 
 /**
  * A {@code worker} is a thread of execution that the integration developer programs as a lifeline.
@@ -48,7 +46,6 @@ import java.util.concurrent.Future;
 @SuppressWarnings("unused")
 public class Worker implements SymbolScope, CompilationUnit, CallableUnit {
 
-    private Future<BMessage> resultFuture;
     private NodeLocation location;
 
     // BLangSymbol related attributes
@@ -300,14 +297,6 @@ public class Worker implements SymbolScope, CompilationUnit, CallableUnit {
         this.parameterTypes = parameterTypes;
     }
 
-    public Future<BMessage> getResultFuture() {
-        return resultFuture;
-    }
-
-    public void setResultFuture(Future<BMessage> resultFuture) {
-        this.resultFuture = resultFuture;
-    }
-
     public boolean isFlowBuilderVisited() {
         return isFlowBuilderVisited;
     }
@@ -17,6 +17,7 @@
 */
 package org.ballerinalang.model.expressions;
 
+import org.ballerinalang.bre.CallableUnitInfo;
 import org.ballerinalang.model.Action;
 import org.ballerinalang.model.NodeExecutor;
 import org.ballerinalang.model.NodeLocation;
@@ -36,6 +37,7 @@ public class ActionInvocationExpr extends AbstractExpression implements Callable
     private String connectorName;
     private Expression[] exprs;
     private Action action;
+    private CallableUnitInfo callableUnitInfo;
     private BType[] types = new BType[0];
     private int retuningBranchID;
     private boolean hasReturningBranch;
@@ -86,6 +88,18 @@ public class ActionInvocationExpr extends AbstractExpression implements Callable
     @Override
     public void setCallableUnit(Action callableUnit) {
         this.action = callableUnit;
+        this.callableUnitInfo = new CallableUnitInfo(callableUnit.getName(), callableUnit.getPackagePath(),
+                getNodeLocation());
+    }
+
+    /**
+     * Returns the information of the invoked {@code CallableUnit}, which is recorded in the stack frames created by
+     * this invocation.
+     *
+     * @return information of the invoked {@code CallableUnit}
+     */
+    public CallableUnitInfo getCallableUnitInfo() {
+        return callableUnitInfo;
     }
 
     @Override
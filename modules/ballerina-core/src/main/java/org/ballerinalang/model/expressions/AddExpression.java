@@ -37,10 +37,10 @@ import java.util.function.BiFunction;
 public class AddExpression extends BinaryArithmeticExpression {
 
     public static final BiFunction<BValueType, BValueType, BValueType> ADD_INT_FUNC =
-            (lVal, rVal) -> new BInteger(lVal.intValue() + rVal.intValue());
+            (lVal, rVal) -> BInteger.valueOf(lVal.intValue() + rVal.intValue());
 
     public static final BiFunction<BValueType, BValueType, BValueType> ADD_LONG_FUNC =
-            (lVal, rVal) -> new BLong(lVal.longValue() + rVal.longValue());
+            (lVal, rVal) -> BLong.valueOf(lVal.longValue() + rVal.longValue());
 
     public static final BiFunction<BValueType, BValueType, BValueType> ADD_FLOAT_FUNC =
             (lVal, rVal) -> new BFloat(lVal.floatValue() + rVal.floatValue());
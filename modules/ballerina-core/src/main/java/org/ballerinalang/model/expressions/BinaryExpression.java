@@ -60,10 +60,6 @@ public class BinaryExpression extends UnaryExpression {
         return executor.visit(this);
     }
 
-    public void setRExpr(Expression rExpr) {
-        this.rExpr = rExpr;
-    }
-
     public void setLExpr(Expression lExpr) {
         this.lExpr = lExpr;
     }
@@ -43,7 +43,7 @@ public class DivideExpr extends BinaryArithmeticExpression {
                 if (rVal.intValue() == 0) {
                     throw new BallerinaException(" / by zero");
                 }
-                return new BInteger(lVal.intValue() / rVal.intValue());
+                return BInteger.valueOf(lVal.intValue() / rVal.intValue());
             };
 
     public static final BiFunction<BValueType, BValueType, BValueType> DIV_LONG_FUNC =
@@ -52,7 +52,7 @@ public class DivideExpr extends BinaryArithmeticExpression {
                 if (rVal.longValue() == 0) {
                     throw new BallerinaException(" / by zero");
                 }
-                return new BLong(lVal.longValue() / rVal.longValue());
+                return BLong.valueOf(lVal.longValue() / rVal.longValue());
             };
 
     public static final BiFunction<BValueType, BValueType, BValueType> DIV_FLOAT_FUNC =
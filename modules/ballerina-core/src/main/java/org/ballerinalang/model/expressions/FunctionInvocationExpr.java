@@ -17,6 +17,7 @@
 */
 package org.ballerinalang.model.expressions;
 
+import org.ballerinalang.bre.CallableUnitInfo;
 import org.ballerinalang.model.Function;
 import org.ballerinalang.model.NodeExecutor;
 import org.ballerinalang.model.NodeLocation;
@@ -35,6 +36,7 @@ public class FunctionInvocationExpr extends AbstractExpression implements Callab
     private String pkgPath;
     private Expression[] exprs;
     private Function calleeFunction;
+    private CallableUnitInfo callableUnitInfo;
     private BType[] types = new BType[0];
     private int retuningBranchID;
     private boolean hasReturningBranch;
@@ -79,6 +81,18 @@ public class FunctionInvocationExpr extends AbstractExpression implements Callab
     @Override
     public void setCallableUnit(Function callableUnit) {
         this.calleeFunction = callableUnit;
+        this.callableUnitInfo = new CallableUnitInfo(callableUnit.getName(), callableUnit.getPackagePath(),
+                getNodeLocation());
+    }
+
+    /**
+     * Returns the information of the invoked {@code CallableUnit}, which is recorded in the stack frames created by
+     * this invocation.
+     *
+     * @return information of the invoked {@code CallableUnit}
+     */
+    public CallableUnitInfo getCallableUnitInfo() {
+        return callableUnitInfo;
     }
 
     @Override
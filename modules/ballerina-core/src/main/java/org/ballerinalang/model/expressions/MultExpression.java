@@ -37,10 +37,10 @@ import static org.ballerinalang.model.Operator.MUL;
 public class MultExpression extends BinaryArithmeticExpression {
 
     public static final BiFunction<BValueType, BValueType, BValueType> MULT_INT_FUNC =
-            (lVal, rVal) -> new BInteger(lVal.intValue() * rVal.intValue());
+            (lVal, rVal) -> BInteger.valueOf(lVal.intValue() * rVal.intValue());
 
     public static final BiFunction<BValueType, BValueType, BValueType> MULT_LONG_FUNC =
-            (lVal, rVal) -> new BLong(lVal.longValue() * rVal.longValue());
+            (lVal, rVal) -> BLong.valueOf(lVal.longValue() * rVal.longValue());
 
     public static final BiFunction<BValueType, BValueType, BValueType> MULT_FLOAT_FUNC =
             (lVal, rVal) -> new BFloat(lVal.floatValue() * rVal.floatValue());
@@ -18,6 +18,7 @@
 
 package org.ballerinalang.model.expressions;
 
+import org.ballerinalang.bre.CallableUnitInfo;
 import org.ballerinalang.model.ExecutableMultiReturnExpr;
 import org.ballerinalang.model.NodeExecutor;
 import org.ballerinalang.model.NodeVisitor;
@@ -32,11 +33,14 @@ import org.ballerinalang.model.values.BValue;
 public class ResourceInvocationExpr extends AbstractExpression implements ExecutableMultiReturnExpr {
     private Resource resource;
     private Expression[] exprs;
+    private CallableUnitInfo callableUnitInfo;
 
     public ResourceInvocationExpr(Resource resource, Expression[] exprs) {
         super(null);
         this.resource = resource;
         this.exprs = exprs;
+        this.callableUnitInfo = new CallableUnitInfo(resource.getName(), resource.getPackagePath(),
+                resource.getNodeLocation());
     }
 
     public Resource getResource() {
@@ -47,6 +51,16 @@ public class ResourceInvocationExpr extends AbstractExpression implements Execut
         return exprs;
     }
 
+    /**
+     * Returns the information of the invoked resource, which is recorded in the stack frames created by this
+     * invocation.
+     *
+     * @return information of the invoked resource
+     */
+    public CallableUnitInfo getCallableUnitInfo() {
+        return callableUnitInfo;
+    }
+
     @Override
     public void accept(NodeVisitor visitor) {
         visitor.visit(this);
@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.model.expressions;
 
+import org.ballerinalang.bre.CallableUnitInfo;
 import org.ballerinalang.model.NodeExecutor;
 import org.ballerinalang.model.NodeLocation;
 import org.ballerinalang.model.NodeVisitor;
@@ -44,6 +45,7 @@ public class TypeCastExpression extends AbstractExpression implements CallableUn
     private String packageName;
     private SymbolName typeMapperName;
     private TypeMapper typeMapper;
+    private CallableUnitInfo callableUnitInfo;
     protected Function<BValueType, BValueType> evalFuncNewNew;
     private int retuningBranchID;
     private boolean hasReturningBranch;
@@ -72,6 +74,10 @@ public class TypeCastExpression extends AbstractExpression implements CallableUn
         return rExpr;
     }
 
+    public void setRExpr(Expression rExpr) {
+        this.rExpr = rExpr;
+    }
+
     public SimpleTypeName getTypeName() {
         return typeName;
     }
@@ -155,7 +161,18 @@ public class TypeCastExpression extends AbstractExpression implements CallableUn
     @Override
     public void setCallableUnit(TypeMapper callableUnit) {
         this.typeMapper = callableUnit;
+        this.callableUnitInfo = new CallableUnitInfo(callableUnit.getTypeMapperName(), callableUnit.getPackagePath(),
+                getNodeLocation());
+    }
 
+    /**
+     * Returns the information of the invoked {@code CallableUnit}, which is recorded in the stack frames created by
+     * this invocation.
+     *
+     * @return information of the invoked {@code CallableUnit}
+     */
+    public CallableUnitInfo getCallableUnitInfo() {
+        return callableUnitInfo;
     }
 
     /**
@@ -44,16 +44,16 @@ public class UnaryExpression extends AbstractExpression {
     private BiFunction<BValueType, BValueType, BValueType> evalFuncNewNew;
 
     public static final BiFunction<BValueType, BValueType, BValueType> NOT_BOOLEAN_FUNC =
-            (lVal, rVal) -> new BBoolean(!rVal.booleanValue());
+            (lVal, rVal) -> BBoolean.valueOf(!rVal.booleanValue());
 
     public static final BiFunction<BValueType, BValueType, BValueType> NEGATIVE_INT_FUNC =
-            (lVal, rVal) -> new BInteger(-(rVal.intValue()));
+            (lVal, rVal) -> BInteger.valueOf(-(rVal.intValue()));
 
     public static final BiFunction<BValueType, BValueType, BValueType> POSITIVE_INT_FUNC =
             (lVal, rVal) -> rVal;
 
     public static final BiFunction<BValueType, BValueType, BValueType> NEGATIVE_LONG_FUNC =
-            (lVal, rVal) -> new BLong(-(rVal.longValue()));
+            (lVal, rVal) -> BLong.valueOf(-(rVal.longValue()));
 
     public static final BiFunction<BValueType, BValueType, BValueType> POSITIVE_LONG_FUNC =
             (lVal, rVal) -> rVal;
@@ -88,6 +88,10 @@ public class UnaryExpression extends AbstractExpression {
         return rExpr;
     }
 
+    public void setRExpr(Expression rExpr) {
+        this.rExpr = rExpr;
+    }
+
     public Operator getOperator() {
         return op;
     }
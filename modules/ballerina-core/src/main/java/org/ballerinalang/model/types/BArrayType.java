@@ -50,7 +50,7 @@ public class BArrayType extends BType implements BIndexedType {
 
     @SuppressWarnings("unchecked")
     public <V extends BValue> V getDefaultValue() {
-        return (V) new BArray<V>(elementType.getValueClass());
+        return (V) BArray.newArray(elementType.getValueClass());
     }
 
     public boolean equals(Object obj) {
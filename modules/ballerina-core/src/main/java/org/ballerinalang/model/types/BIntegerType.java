@@ -39,6 +39,6 @@ class BIntegerType extends BType {
 
     @SuppressWarnings("unchecked")
     public <V extends BValue> V getDefaultValue() {
-        return (V) new BInteger(0);
+        return (V) BInteger.valueOf(0);
     }
 }
@@ -39,6 +39,6 @@ class BLongType extends BType {
 
     @SuppressWarnings("unchecked")
     public <V extends BValue> V getDefaultValue() {
-        return (V) new BLong(0);
+        return (V) BLong.valueOf(0);
     }
 }
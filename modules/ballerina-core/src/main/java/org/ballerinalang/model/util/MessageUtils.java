@@ -20,10 +20,10 @@ package org.ballerinalang.model.util;
 
 import org.ballerinalang.util.exceptions.BallerinaException;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.Charset;
 
 /**
  * Common Utils methods used in Message.
@@ -37,24 +37,27 @@ public class MessageUtils {
      * @return Message payload as string
      */
     public static String getStringFromInputStream(InputStream in) {
-        BufferedInputStream bis = new BufferedInputStream(in);
+        return new String(getBytesFromInputStream(in), Charset.defaultCharset());
+    }
+
+    /**
+     * Read all the bytes of an input stream.
+     *
+     * @param in Message payload as an input stream
+     * @return Message payload as it was received
+     */
+    public static byte[] getBytesFromInputStream(InputStream in) {
         ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        String result;
         try {
-            int data;
-            while ((data = bis.read()) != -1) {
-                bos.write(data);
+            byte[] buffer = new byte[8192];
+            int count;
+            while ((count = in.read(buffer)) != -1) {
+                bos.write(buffer, 0, count);
             }
-            result = bos.toString();
         } catch (IOException ioe) {
             throw new BallerinaException("Error occurred when reading input stream", ioe);
-        } finally {
-            try {
-                bos.close();
-            } catch (IOException ignored) {
-            }
         }
-        return result;
+        return bos.toByteArray();
     }
 
     /**
@@ -24,11 +24,17 @@ import java.util.Arrays;
 
 /**
  * {@code BArray} represents an arrays in Ballerina.
+ * <p>
+ * Elements are stored as {@link BValue}s in fixed size buckets. Arrays of {@code int}, {@code long}, {@code float},
+ * {@code double}, {@code boolean} and {@code string} values are represented by the specialized subclasses
+ * {@link BIntArray}, {@link BLongArray}, {@link BFloatArray}, {@link BDoubleArray}, {@link BBooleanArray} and
+ * {@link BStringArray}, which are backed by Java arrays of the corresponding type. Use
+ * {@link #newArray(Class)} to create an array of the right representation for a given element type.
  *
  * @param <V> Ballerina value stored in this arrays value
  * @since 0.8.0
  */
-public final class BArray<V extends BValue> implements BRefType {
+public class BArray<V extends BValue> implements BRefType {
 
     /**
      * The maximum size of arrays to allocate.
@@ -40,17 +46,49 @@ public final class BArray<V extends BValue> implements BRefType {
     private static final int DEFAULT_ARRAY_SIZE = 100;
     private static final int DEFAULT_ARRAY_BUCKET_SIZE = 10;
 
-    private BValue[][] arrayBucket = new BValue[DEFAULT_ARRAY_BUCKET_SIZE][];
+    // Initial capacity of the specialized arrays
+    private static final int MIN_CAPACITY = 10;
+
+    // Buckets are allocated on first use, since the specialized arrays do not use them
+    private BValue[][] arrayBucket;
     private Class<V> valueClass;
 
     private int lastBucketIndex = -1;
-    private int size = 0;
+    protected int size = 0;
 
     public BArray(Class<V> valueClass) {
         this.valueClass = valueClass;
     }
 
-    public <V extends BValue> void add(int index, V value) {
+    /**
+     * Create an empty array for the given element type, using the specialized representation if there is one.
+     *
+     * @param valueClass class of the element values
+     * @param <V>        type of the element values
+     * @return new array
+     */
+    @SuppressWarnings("unchecked")
+    public static <V extends BValue> BArray<V> newArray(Class<V> valueClass) {
+        BArray array;
+        if (valueClass == BInteger.class) {
+            array = new BIntArray();
+        } else if (valueClass == BLong.class) {
+            array = new BLongArray();
+        } else if (valueClass == BFloat.class) {
+            array = new BFloatArray();
+        } else if (valueClass == BDouble.class) {
+            array = new BDoubleArray();
+        } else if (valueClass == BBoolean.class) {
+            array = new BBooleanArray();
+        } else if (valueClass == BString.class) {
+            array = new BStringArray();
+        } else {
+            array = new BArray<>(valueClass);
+        }
+        return (BArray<V>) array;
+    }
+
+    public void add(int index, BValue value) {
         ensureCapacity(index);
 
         int bucketIndex = index / DEFAULT_ARRAY_SIZE;
@@ -76,6 +114,22 @@ public final class BArray<V extends BValue> implements BRefType {
         return size;
     }
 
+    /**
+     * Copy the given range of this array into a new array.
+     *
+     * @param from index of the first element to be copied
+     * @param to   index after the last element to be copied
+     * @return new array holding the elements of the range
+     */
+    public BArray<V> copyOfRange(int from, int to) {
+        BArray<V> newArray = newArray(valueClass);
+        int index = 0;
+        for (int i = from; i < to; i++) {
+            newArray.add(index++, get(i));
+        }
+        return newArray;
+    }
+
     @Override
     public String stringValue() {
         return null;
@@ -99,7 +153,7 @@ public final class BArray<V extends BValue> implements BRefType {
         return (V[]) Array.newInstance(this.valueClass, DEFAULT_ARRAY_SIZE);
     }
 
-    private void rangeCheck(int index) {
+    protected void rangeCheck(int index) {
         if (index >= size) {
             throw new BallerinaException("arrays index out of range: " + outOfBoundsMsg(index));
         }
@@ -109,6 +163,22 @@ public final class BArray<V extends BValue> implements BRefType {
         return "Index: " + index + ", Size: " + size;
     }
 
+    /**
+     * Calculate the new capacity of a specialized array which has to hold the given index.
+     *
+     * @param capacity current capacity
+     * @param index    index to be stored
+     * @return new capacity
+     */
+    protected static int newCapacity(int capacity, int index) {
+        if (index >= MAX_ARRAY_SIZE) {
+            throw new BallerinaException("Requested arrays size " + index +
+                    " exceeds limit: " + MAX_ARRAY_SIZE);
+        }
+        long newCapacity = Math.max(Math.max(index + 1L, capacity + (capacity >> 1)), MIN_CAPACITY);
+        return (int) Math.min(newCapacity, MAX_ARRAY_SIZE);
+    }
+
     private void ensureCapacity(int capacityRequired) {
         int bucketIndex = capacityRequired / DEFAULT_ARRAY_SIZE;
 
@@ -123,10 +193,12 @@ public final class BArray<V extends BValue> implements BRefType {
                     " exceeds limit: " + MAX_ARRAY_SIZE);
         }
 
-        if (bucketIndex >= arrayBucket.length) {
+        if (arrayBucket == null) {
+            arrayBucket = new BValue[Math.max(bucketIndex + 1, DEFAULT_ARRAY_BUCKET_SIZE)][];
+        } else if (bucketIndex >= arrayBucket.length) {
             // We have to create new arrayBucket
-            arrayBucket = Arrays.copyOf(arrayBucket, arrayBucket.length + DEFAULT_ARRAY_BUCKET_SIZE);
-
+            arrayBucket = Arrays.copyOf(arrayBucket,
+                    Math.max(bucketIndex + 1, arrayBucket.length + DEFAULT_ARRAY_BUCKET_SIZE));
         }
 
         if (bucketIndex > lastBucketIndex) {
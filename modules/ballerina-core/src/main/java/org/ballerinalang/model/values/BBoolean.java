@@ -36,12 +36,22 @@ public final class BBoolean extends BValueType {
      */
     public static final BBoolean FALSE = new BBoolean(false);
 
-    private boolean value;
+    private final boolean value;
 
     public BBoolean(boolean value) {
         this.value = value;
     }
 
+    /**
+     * Return the shared {@code BBoolean} instance for the given value.
+     *
+     * @param value boolean value
+     * @return {@link #TRUE} or {@link #FALSE}
+     */
+    public static BBoolean valueOf(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
     @Override
     public int intValue() {
         return 0;
@@ -74,6 +84,11 @@ public final class BBoolean extends BValueType {
 
     @Override
     public boolean equals(Object obj) {
-        return ((BBoolean) obj).booleanValue() == value;
+        return obj instanceof BBoolean && ((BBoolean) obj).booleanValue() == value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Boolean.hashCode(value);
     }
 }
@@ -0,0 +1,77 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.model.values;
+
+import java.util.Arrays;
+
+/**
+ * {@code BBooleanArray} represents a {@code boolean} array in Ballerina.
+ * Elements are stored in a {@code boolean[]} instead of as {@link BBoolean} values.
+ *
+ * @since 0.8.0
+ */
+public final class BBooleanArray extends BArray<BBoolean> {
+
+    private static final boolean[] EMPTY_VALUES = {};
+
+    private boolean[] values;
+
+    public BBooleanArray() {
+        this(EMPTY_VALUES, 0);
+    }
+
+    private BBooleanArray(boolean[] values, int size) {
+        super(BBoolean.class);
+        this.values = values;
+        this.size = size;
+    }
+
+    @Override
+    public void add(int index, BValue value) {
+        add(index, ((BBoolean) value).booleanValue());
+    }
+
+    public void add(int index, boolean value) {
+        if (index >= values.length) {
+            values = Arrays.copyOf(values, newCapacity(values.length, index));
+        }
+        values[index] = value;
+        if (index >= size) {
+            size = index + 1;
+        }
+    }
+
+    @Override
+    public BBoolean get(int index) {
+        rangeCheck(index);
+        return BBoolean.valueOf(values[index]);
+    }
+
+    public boolean getBoolean(int index) {
+        rangeCheck(index);
+        return values[index];
+    }
+
+    @Override
+    public BBooleanArray copyOfRange(int from, int to) {
+        if (to <= from) {
+            return new BBooleanArray();
+        }
+        return new BBooleanArray(Arrays.copyOfRange(values, from, to), to - from);
+    }
+}
@@ -62,6 +62,12 @@ public final class BDouble extends BValueType {
 
     @Override
     public boolean equals(Object obj) {
-        return ((BDouble) obj).doubleValue() == value;
+        return obj instanceof BDouble && ((BDouble) obj).doubleValue() == value;
+    }
+
+    @Override
+    public int hashCode() {
+        // 0.0 and -0.0 are equal, so they must have the same hash code
+        return value == 0 ? 0 : Double.hashCode(value);
     }
 }
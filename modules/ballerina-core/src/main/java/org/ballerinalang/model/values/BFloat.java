@@ -62,6 +62,12 @@ public final class BFloat extends BValueType {
 
     @Override
     public boolean equals(Object obj) {
-        return ((BFloat) obj).floatValue() == value;
+        return obj instanceof BFloat && ((BFloat) obj).floatValue() == value;
+    }
+
+    @Override
+    public int hashCode() {
+        // 0.0 and -0.0 are equal, so they must have the same hash code
+        return value == 0 ? 0 : Float.hashCode(value);
     }
 }
@@ -0,0 +1,77 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.model.values;
+
+import java.util.Arrays;
+
+/**
+ * {@code BFloatArray} represents a {@code float} array in Ballerina.
+ * Elements are stored in a {@code float[]} instead of as {@link BFloat} values.
+ *
+ * @since 0.8.0
+ */
+public final class BFloatArray extends BArray<BFloat> {
+
+    private static final float[] EMPTY_VALUES = {};
+
+    private float[] values;
+
+    public BFloatArray() {
+        this(EMPTY_VALUES, 0);
+    }
+
+    private BFloatArray(float[] values, int size) {
+        super(BFloat.class);
+        this.values = values;
+        this.size = size;
+    }
+
+    @Override
+    public void add(int index, BValue value) {
+        add(index, ((BFloat) value).floatValue());
+    }
+
+    public void add(int index, float value) {
+        if (index >= values.length) {
+            values = Arrays.copyOf(values, newCapacity(values.length, index));
+        }
+        values[index] = value;
+        if (index >= size) {
+            size = index + 1;
+        }
+    }
+
+    @Override
+    public BFloat get(int index) {
+        rangeCheck(index);
+        return new BFloat(values[index]);
+    }
+
+    public float getFloat(int index) {
+        rangeCheck(index);
+        return values[index];
+    }
+
+    @Override
+    public BFloatArray copyOfRange(int from, int to) {
+        if (to <= from) {
+            return new BFloatArray();
+        }
+        return new BFloatArray(Arrays.copyOfRange(values, from, to), to - from);
+    }
+}
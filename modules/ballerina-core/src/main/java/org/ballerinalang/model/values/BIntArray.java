@@ -0,0 +1,77 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.model.values;
+
+import java.util.Arrays;
+
+/**
+ * {@code BIntArray} represents an {@code int} array in Ballerina.
+ * Elements are stored in an {@code int[]} instead of as {@link BInteger} values.
+ *
+ * @since 0.8.0
+ */
+public final class BIntArray extends BArray<BInteger> {
+
+    private static final int[] EMPTY_VALUES = {};
+
+    private int[] values;
+
+    public BIntArray() {
+        this(EMPTY_VALUES, 0);
+    }
+
+    private BIntArray(int[] values, int size) {
+        super(BInteger.class);
+        this.values = values;
+        this.size = size;
+    }
+
+    @Override
+    public void add(int index, BValue value) {
+        add(index, ((BInteger) value).intValue());
+    }
+
+    public void add(int index, int value) {
+        if (index >= values.length) {
+            values = Arrays.copyOf(values, newCapacity(values.length, index));
+        }
+        values[index] = value;
+        if (index >= size) {
+            size = index + 1;
+        }
+    }
+
+    @Override
+    public BInteger get(int index) {
+        rangeCheck(index);
+        return BInteger.valueOf(values[index]);
+    }
+
+    public int getInt(int index) {
+        rangeCheck(index);
+        return values[index];
+    }
+
+    @Override
+    public BIntArray copyOfRange(int from, int to) {
+        if (to <= from) {
+            return new BIntArray();
+        }
+        return new BIntArray(Arrays.copyOfRange(values, from, to), to - from);
+    }
+}
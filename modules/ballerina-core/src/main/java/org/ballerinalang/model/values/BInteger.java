@@ -24,12 +24,30 @@ package org.ballerinalang.model.values;
  */
 public final class BInteger extends BValueType {
 
-    private int value;
+    // Range of the values which are cached by valueOf
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 1023;
+
+    private final int value;
 
     public BInteger(int value) {
         this.value = value;
     }
 
+    /**
+     * Return a {@code BInteger} for the given value. Values between {@value #CACHE_LOW} and {@value #CACHE_HIGH} are
+     * shared instances, so that loop counters and other small values do not allocate.
+     *
+     * @param value int value
+     * @return {@code BInteger} holding the value
+     */
+    public static BInteger valueOf(int value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return Cache.VALUES[value - CACHE_LOW];
+        }
+        return new BInteger(value);
+    }
+
     @Override
     public int intValue() {
         return this.value;
@@ -62,6 +80,25 @@ public final class BInteger extends BValueType {
 
     @Override
     public boolean equals(Object obj) {
-        return ((BInteger) obj).intValue() == value;
+        return obj instanceof BInteger && ((BInteger) obj).intValue() == value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
+    }
+
+    /**
+     * Holder of the cached values, initialized on first use.
+     */
+    private static class Cache {
+
+        private static final BInteger[] VALUES = new BInteger[CACHE_HIGH - CACHE_LOW + 1];
+
+        static {
+            for (int i = 0; i < VALUES.length; i++) {
+                VALUES[i] = new BInteger(i + CACHE_LOW);
+            }
+        }
     }
 }
@@ -19,9 +19,13 @@ package org.ballerinalang.model.values;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonParser.Feature;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+import org.ballerinalang.model.StreamingJSONDataSource;
 import org.ballerinalang.runtime.message.BallerinaMessageDataSource;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
@@ -57,6 +61,10 @@ public final class BJSON extends BallerinaMessageDataSource implements BRefType<
     // Output stream to write message out to the socket
     private OutputStream outputStream;
 
+    // Whether the streaming data source has been read without building the JSON tree. This and the value are
+    // guarded by this object, as the data source they are built from is.
+    private boolean scanned;
+
     /**
      * Initialize a {@link BJSON} from a {@link com.fasterxml.jackson.databind.JsonNode} object.
      *
@@ -142,7 +150,7 @@ public final class BJSON extends BallerinaMessageDataSource implements BRefType<
      *
      * @param value Value associated with this {@link BJSON} object.
      */
-    public void setValue(JsonNode value) {
+    public synchronized void setValue(JsonNode value) {
         this.value = value;
     }
 
@@ -165,13 +173,16 @@ public final class BJSON extends BallerinaMessageDataSource implements BRefType<
     }
 
     @Override
-    public void serializeData() {
+    public synchronized void serializeData() {
         try {
             JsonGenerator gen = JSON_FAC.createGenerator(this.outputStream);
             /* the below order is important, where if the value is generated from a streaming data source,
              * it should be able to serialize the data out again using the value */
             if (this.value != null) {
                 this.value.serialize(gen, null);
+            } else if (this.datasource instanceof StreamingJSONDataSource) {
+                // An untouched payload is passed through as it was received
+                ((StreamingJSONDataSource) this.datasource).writeTo(this.outputStream);
             } else {
                 this.datasource.serialize(gen);
             }
@@ -192,8 +203,14 @@ public final class BJSON extends BallerinaMessageDataSource implements BRefType<
      * @return JSON object associated with this {@link BJSON} object
      */
     @Override
-    public JsonNode value() {
-        if (this.value == null) {
+    public synchronized JsonNode value() {
+        if (this.value == null && this.datasource instanceof StreamingJSONDataSource) {
+            try (JsonParser parser = ((StreamingJSONDataSource) this.datasource).createParser()) {
+                this.value = OBJECT_MAPPER.readTree(parser);
+            } catch (Throwable t) {
+                handleJsonException("failed to create json: ", t);
+            }
+        } else if (this.value == null) {
             ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
             try {
                 JsonGenerator gen = JSON_FAC.createGenerator(byteOut);
@@ -207,6 +224,83 @@ public final class BJSON extends BallerinaMessageDataSource implements BRefType<
         return this.value;
     }
 
+    /**
+     * Read a scalar element of this JSON without building the JSON tree. This is only possible while the JSON is
+     * backed by a {@link StreamingJSONDataSource} and has not been built yet, in which case the payload is tokenized
+     * and the subtrees which are not on the path are skipped.
+     * <p>
+     * Only the first read is served this way. Later reads build the JSON tree once and read from it, rather than
+     * tokenizing the payload again for each of them.
+     *
+     * @param path property names and array indexes leading to the element
+     * @return the element, or null if it is missing or not a scalar, if this JSON has already been built or if it
+     * has already been read
+     */
+    public synchronized JsonNode readScalar(Object[] path) {
+        if (this.value != null || !(this.datasource instanceof StreamingJSONDataSource) || this.scanned) {
+            return null;
+        }
+
+        this.scanned = true;
+        try (JsonParser parser = ((StreamingJSONDataSource) this.datasource).createParser()) {
+            parser.nextToken();
+            return findScalar(parser, path, 0);
+        } catch (Throwable t) {
+            handleJsonException("failed to read json: ", t);
+        }
+        return null;
+    }
+
+    /**
+     * Find a scalar element in the value the parser is positioned at. The parser is left at the last token of the
+     * value. When an object has several fields with the same name the last one is used, as it is in the JSON tree.
+     *
+     * @param parser parser positioned at the first token of a value
+     * @param path   property names and array indexes leading to the element
+     * @param index  index of the path segment to be matched in the value
+     * @return the element, or null if it is missing or not a scalar
+     * @throws IOException if the payload cannot be read
+     */
+    private static JsonNode findScalar(JsonParser parser, Object[] path, int index) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (index == path.length) {
+            if (token == JsonToken.VALUE_NULL) {
+                return NullNode.getInstance();
+            } else if (token != null && token.isScalarValue()) {
+                return OBJECT_MAPPER.readTree(parser);
+            }
+            // Containers are built from the whole tree, so that changes made through them are not lost
+            parser.skipChildren();
+            return null;
+        }
+
+        Object segment = path[index];
+        JsonNode element = null;
+        if (segment instanceof String && token == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                boolean matches = segment.equals(parser.getCurrentName());
+                parser.nextToken();
+                if (matches) {
+                    element = findScalar(parser, path, index + 1);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } else if (segment instanceof Integer && token == JsonToken.START_ARRAY) {
+            int position = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (position++ == (Integer) segment) {
+                    element = findScalar(parser, path, index + 1);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } else {
+            parser.skipChildren();
+        }
+        return element;
+    }
+
     @Override
     public String stringValue() {
         try {
@@ -220,7 +314,7 @@ public final class BJSON extends BallerinaMessageDataSource implements BRefType<
     @Override
     public String getMessageAsString() {
         try {
-            return this.value.toString();
+            return this.value().toString();
         } catch (Throwable t) {
             handleJsonException("failed to get json as string: ", t);
         }
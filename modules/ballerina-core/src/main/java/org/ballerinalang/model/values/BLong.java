@@ -24,12 +24,30 @@ package org.ballerinalang.model.values;
  */
 public final class BLong extends BValueType {
 
-    private long value;
+    // Range of the values which are cached by valueOf
+    private static final int CACHE_LOW = -128;
+    private static final int CACHE_HIGH = 1023;
+
+    private final long value;
 
     public BLong(long value) {
         this.value = value;
     }
 
+    /**
+     * Return a {@code BLong} for the given value. Values between {@value #CACHE_LOW} and {@value #CACHE_HIGH} are
+     * shared instances, so that loop counters and other small values do not allocate.
+     *
+     * @param value long value
+     * @return {@code BLong} holding the value
+     */
+    public static BLong valueOf(long value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return Cache.VALUES[(int) value - CACHE_LOW];
+        }
+        return new BLong(value);
+    }
+
     @Override
     public int intValue() {
         return (int) this.value;
@@ -62,6 +80,25 @@ public final class BLong extends BValueType {
 
     @Override
     public boolean equals(Object obj) {
-        return ((BLong) obj).longValue() == value;
+        return obj instanceof BLong && ((BLong) obj).longValue() == value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    /**
+     * Holder of the cached values, initialized on first use.
+     */
+    private static class Cache {
+
+        private static final BLong[] VALUES = new BLong[CACHE_HIGH - CACHE_LOW + 1];
+
+        static {
+            for (int i = 0; i < VALUES.length; i++) {
+                VALUES[i] = new BLong(i + CACHE_LOW);
+            }
+        }
     }
 }
@@ -0,0 +1,77 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.model.values;
+
+import java.util.Arrays;
+
+/**
+ * {@code BLongArray} represents a {@code long} array in Ballerina.
+ * Elements are stored in a {@code long[]} instead of as {@link BLong} values.
+ *
+ * @since 0.8.0
+ */
+public final class BLongArray extends BArray<BLong> {
+
+    private static final long[] EMPTY_VALUES = {};
+
+    private long[] values;
+
+    public BLongArray() {
+        this(EMPTY_VALUES, 0);
+    }
+
+    private BLongArray(long[] values, int size) {
+        super(BLong.class);
+        this.values = values;
+        this.size = size;
+    }
+
+    @Override
+    public void add(int index, BValue value) {
+        add(index, ((BLong) value).longValue());
+    }
+
+    public void add(int index, long value) {
+        if (index >= values.length) {
+            values = Arrays.copyOf(values, newCapacity(values.length, index));
+        }
+        values[index] = value;
+        if (index >= size) {
+            size = index + 1;
+        }
+    }
+
+    @Override
+    public BLong get(int index) {
+        rangeCheck(index);
+        return BLong.valueOf(values[index]);
+    }
+
+    public long getLong(int index) {
+        rangeCheck(index);
+        return values[index];
+    }
+
+    @Override
+    public BLongArray copyOfRange(int from, int to) {
+        if (to <= from) {
+            return new BLongArray();
+        }
+        return new BLongArray(Arrays.copyOfRange(values, from, to), to - from);
+    }
+}
@@ -18,22 +18,36 @@
 package org.ballerinalang.model.values;
 
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Objects;
 import java.util.Set;
 
 /**
  * {@code MapType} represents a map.
+ * <p>
+ * Entries are kept in insertion order in a pair of key and value arrays. Lookups go through an open addressing hash
+ * index with linear probing, which maps the hash of a key to the position of its entry.
+ *
  * @param <BString> Key
  * @param <V> Value
  * @since 0.8.0
  */
 public class BMap<BString, V extends BValue> implements BRefType {
 
-    private int size;
     private static final int INITIAL_CAPACITY = 16;
-    private static final int MAX_CAPACITY = 1 << 16;
+    // Markers used in the hash index. Other slots hold the position of an entry.
+    private static final int EMPTY = -1;
+    private static final int DELETED = -2;
+    // Key of the entry positions of removed entries
+    private static final Object REMOVED = new Object();
+
+    private int size;
+    // Number of used entry positions, including the ones of removed entries
+    private int used;
+    private int[] index = newIndex(INITIAL_CAPACITY * 2);
+    private Object[] keys = new Object[INITIAL_CAPACITY];
     @SuppressWarnings("unchecked")
-    private MapEntry<BString, V>[] values = new MapEntry[INITIAL_CAPACITY];
+    private V[] values = (V[]) new BValue[INITIAL_CAPACITY];
 
     /**
      * Retrieve the value for the given key from map.
@@ -41,14 +55,8 @@ public class BMap<BString, V extends BValue> implements BRefType {
      * @return value
      */
     public V get(BString key) {
-        for (int i = 0; i < size; i++) {
-            if (values[i] != null) {
-                if (values[i].getKey().equals(key)) {
-                    return values[i].getValue();
-                }
-            }
-        }
-        return null;
+        int slot = findSlot(key);
+        return slot < 0 ? null : values[index[slot]];
     }
 
     /**
@@ -57,28 +65,18 @@ public class BMap<BString, V extends BValue> implements BRefType {
      * @param value value related to the key
      */
     public void put(BString key, V value) {
-        boolean insert = true;
-        for (int i = 0; i < size; i++) {
-            if (values[i].getKey().equals(key)) {
-                values[i].setValue(value);
-                insert = false;
-            }
-        }
-        if (insert) {
-            ensureCapacity();
-            values[size++] = new MapEntry<>(key, value);
+        int slot = findSlot(key);
+        if (slot >= 0) {
+            values[index[slot]] = value;
+            return;
         }
-    }
 
-    private void ensureCapacity() {
-        if (size == values.length) {
-            int newSize = values.length * 2;
-            if (newSize <= MAX_CAPACITY) {
-                values = Arrays.copyOf(values, newSize);
-            } else {
-                throw new RuntimeException(" Map cannot exceed the maximum size");
-            }
-        }
+        ensureCapacity();
+        keys[used] = key;
+        values[used] = value;
+        insertIndex(hash(key), used);
+        used++;
+        size++;
     }
 
     /**
@@ -94,27 +92,28 @@ public class BMap<BString, V extends BValue> implements BRefType {
      * @param key key of the item to be removed
      */
     public void remove(BString key) {
-        for (int i = 0; i < size; i++) {
-            if (values[i].getKey().equals(key)) {
-                values[i] = null;
-                size--;
-                condenseArray(i);
-            }
+        int slot = findSlot(key);
+        if (slot < 0) {
+            return;
         }
-    }
-
-    private void condenseArray(int start) {
-        System.arraycopy(values, start + 1, values, start, (values.length - start - 1));
+        int position = index[slot];
+        index[slot] = DELETED;
+        keys[position] = REMOVED;
+        values[position] = null;
+        size--;
     }
 
     /**
-     * Retrieve the set of keys related to this map.
+     * Retrieve the set of keys related to this map, in insertion order.
      * @return returns the set of keys
      */
+    @SuppressWarnings("unchecked")
     public Set<BString> keySet() {
-        Set<BString> set = new HashSet<>();
-        for (int i = 0; i < size; i++) {
-            set.add(values[i].getKey());
+        Set<BString> set = new LinkedHashSet<>(size * 2);
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != REMOVED) {
+                set.add((BString) keys[i]);
+            }
         }
         return set;
     }
@@ -134,27 +133,83 @@ public class BMap<BString, V extends BValue> implements BRefType {
         return null;
     }
 
-    private class MapEntry<K, V> {
-        private final K key;
-        private V value;
+    /**
+     * Find the index slot which holds the entry of the given key.
+     *
+     * @param key key to look for
+     * @return slot of the key or -1 if the key is not in the map
+     */
+    private int findSlot(BString key) {
+        int mask = index.length - 1;
+        int slot = hash(key) & mask;
+        while (true) {
+            int position = index[slot];
+            if (position == EMPTY) {
+                return -1;
+            }
+            if (position != DELETED && Objects.equals(keys[position], key)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void insertIndex(int hash, int position) {
+        int mask = index.length - 1;
+        int slot = hash & mask;
+        while (index[slot] >= 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = position;
+    }
 
-        MapEntry(K key, V value) {
-            this.key = key;
-            this.value = value;
+    /**
+     * Make room for a new entry. The entry arrays are compacted if removed entries take up at least half of them,
+     * otherwise they are doubled. The hash index is kept at twice the size of the entry arrays, which bounds its load
+     * factor, including deleted slots, to one half.
+     */
+    private void ensureCapacity() {
+        if (used < keys.length) {
+            return;
         }
 
-        K getKey() {
-            return key;
+        int capacity = keys.length;
+        if (size > keys.length / 2) {
+            if (capacity > Integer.MAX_VALUE / 4) {
+                throw new IllegalStateException("map cannot exceed the maximum size");
+            }
+            capacity = capacity * 2;
         }
 
-        V getValue() {
-            return value;
+        Object[] newKeys = new Object[capacity];
+        @SuppressWarnings("unchecked")
+        V[] newValues = (V[]) new BValue[capacity];
+        int position = 0;
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != REMOVED) {
+                newKeys[position] = keys[i];
+                newValues[position] = values[i];
+                position++;
+            }
         }
+        keys = newKeys;
+        values = newValues;
+        used = position;
 
-        void setValue(V value) {
-            this.value = value;
+        index = newIndex(capacity * 2);
+        for (int i = 0; i < used; i++) {
+            insertIndex(hash(keys[i]), i);
         }
     }
 
-}
+    private static int[] newIndex(int length) {
+        int[] newIndex = new int[length];
+        Arrays.fill(newIndex, EMPTY);
+        return newIndex;
+    }
 
+    private static int hash(Object key) {
+        int h = Objects.hashCode(key);
+        return h ^ (h >>> 16);
+    }
+}
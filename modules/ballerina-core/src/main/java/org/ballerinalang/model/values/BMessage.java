@@ -20,6 +20,7 @@ package org.ballerinalang.model.values;
 import org.ballerinalang.model.util.MessageUtils;
 import org.ballerinalang.runtime.Constants;
 import org.ballerinalang.runtime.message.BallerinaMessageDataSource;
+import org.ballerinalang.runtime.message.BlobDataSource;
 import org.ballerinalang.runtime.message.StringDataSource;
 import org.wso2.carbon.messaging.CarbonMessage;
 import org.wso2.carbon.messaging.DefaultCarbonMessage;
@@ -88,6 +89,18 @@ public final class BMessage implements BRefType<CarbonMessage> {
         this.value.setAlreadyRead(isRead);
     }
 
+    /**
+     * Check whether the payload of this message is still held in the content buffers it was received with, i.e. it has
+     * neither been read nor set from within ballerina. The transport writes the payload of such a message out as it
+     * is, when the message is forwarded.
+     *
+     * @return Flag indicating whether the payload of this message is passed through as it is
+     */
+    public boolean isPassThrough() {
+        return !this.value.isAlreadyRead()
+                && !(this.value.getMessageDataSource() instanceof BallerinaMessageDataSource);
+    }
+
     /**
      * This method returns the already built content of this ballerina message
      * @return BallerinaMessageDataSource content of this message
@@ -97,9 +110,10 @@ public final class BMessage implements BRefType<CarbonMessage> {
                 this.value.getMessageDataSource() instanceof BallerinaMessageDataSource) {
             // this means that message value has been set from within ballerina.
             return (BallerinaMessageDataSource) this.value.getMessageDataSource();
-        } else if (!(this.value.isEmpty()) && this.value.getMessageBody() != null) {
-            // value can be set from outside ballerina. Then we read the content from carbon message and return
-                return new StringDataSource(this.value.getMessageBody().toString());
+        } else if (!(this.value.isEmpty())) {
+            // value can be set from outside ballerina. Then the content is read once from the carbon message and kept
+            // as the payload, so that it is not lost if the message is forwarded
+            return readPayload();
         } else {
             // This means an empty message and we return a message datasource with empty string
             return new StringDataSource("");
@@ -221,7 +235,20 @@ public final class BMessage implements BRefType<CarbonMessage> {
         if (this.isAlreadyRead()) {
             return this.value.getMessageDataSource().getMessageAsString();
         }
-        return MessageUtils.getStringFromInputStream(this.value.getInputStream());
+        // Keep the payload once it is read, since the content buffers can not be read again
+        return readPayload().getMessageAsString();
+    }
+
+    /**
+     * Read the payload from the content buffers of the carbon message and keep it as the payload of this message.
+     * The received bytes are kept, so that the payload is sent out unchanged if the message is forwarded.
+     *
+     * @return Payload of this message
+     */
+    private BallerinaMessageDataSource readPayload() {
+        BlobDataSource payload = new BlobDataSource(MessageUtils.getBytesFromInputStream(this.value.getInputStream()));
+        setMessageDataSource(payload);
+        return payload;
     }
 
     public BMessage clone() {
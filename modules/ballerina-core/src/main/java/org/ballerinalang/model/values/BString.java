@@ -19,6 +19,8 @@ package org.ballerinalang.model.values;
 
 import org.ballerinalang.util.exceptions.BallerinaException;
 
+import java.util.Objects;
+
 /**
  * The {@code BString} represents a string in Ballerina.
  *
@@ -88,6 +90,11 @@ public final class BString extends BValueType {
 
     @Override
     public boolean equals(Object obj) {
-        return ((BString) obj).stringValue().equals(value);
+        return obj instanceof BString && Objects.equals(((BString) obj).stringValue(), value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(value);
     }
 }
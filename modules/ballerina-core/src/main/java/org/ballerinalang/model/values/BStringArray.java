@@ -0,0 +1,95 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.model.values;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * {@code BStringArray} represents a {@code string} array in Ballerina.
+ * Elements are stored in a {@code BString[]}, so that reads return the stored values without allocating, while the
+ * array is still copied and sorted directly rather than through the buckets of {@link BArray}.
+ *
+ * @since 0.8.0
+ */
+public final class BStringArray extends BArray<BString> {
+
+    private static final BString[] EMPTY_VALUES = {};
+
+    private BString[] values;
+
+    public BStringArray() {
+        this(EMPTY_VALUES, 0);
+    }
+
+    private BStringArray(BString[] values, int size) {
+        super(BString.class);
+        this.values = values;
+        this.size = size;
+    }
+
+    @Override
+    public void add(int index, BValue value) {
+        if (value == null || value instanceof BString) {
+            set(index, (BString) value);
+        } else {
+            set(index, new BString(value.stringValue()));
+        }
+    }
+
+    public void add(int index, String value) {
+        set(index, value == null ? null : new BString(value));
+    }
+
+    @Override
+    public BString get(int index) {
+        rangeCheck(index);
+        return values[index];
+    }
+
+    public String getString(int index) {
+        rangeCheck(index);
+        BString value = values[index];
+        return value == null ? null : value.stringValue();
+    }
+
+    @Override
+    public BStringArray copyOfRange(int from, int to) {
+        if (to <= from) {
+            return new BStringArray();
+        }
+        return new BStringArray(Arrays.copyOfRange(values, from, to), to - from);
+    }
+
+    /**
+     * Sort the elements of this array in ascending lexicographic order.
+     */
+    public void sort() {
+        Arrays.sort(values, 0, size, Comparator.comparing(BString::stringValue));
+    }
+
+    private void set(int index, BString value) {
+        if (index >= values.length) {
+            values = Arrays.copyOf(values, newCapacity(values.length, index));
+        }
+        values[index] = value;
+        if (index >= size) {
+            size = index + 1;
+        }
+    }
+}
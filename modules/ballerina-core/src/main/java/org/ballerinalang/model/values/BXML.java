@@ -16,6 +16,7 @@
 
 package org.ballerinalang.model.values;
 
+import net.sf.saxon.s9api.XdmNode;
 import org.apache.axiom.om.OMElement;
 import org.apache.axiom.om.impl.builder.StAXOMBuilder;
 import org.apache.axiom.om.util.AXIOMUtil;
@@ -35,6 +36,9 @@ public final class BXML extends BallerinaMessageDataSource implements BRefType<O
     private OMElement value;
     private OutputStream outputStream;
 
+    // Saxon tree of the value used to evaluate XPaths, kept until the value is modified
+    private volatile XdmNode xdmNode;
+
     /**
      * Initialize a {@link BXML} from a XML string.
      *
@@ -100,6 +104,27 @@ public final class BXML extends BallerinaMessageDataSource implements BRefType<O
         return this.value;
     }
 
+    /**
+     * Get the Saxon tree built from this XML value, if it is cached.
+     *
+     * @return cached Saxon tree or null if there is none
+     */
+    public XdmNode getXdmNode() {
+        return xdmNode;
+    }
+
+    public void setXdmNode(XdmNode xdmNode) {
+        this.xdmNode = xdmNode;
+    }
+
+    /**
+     * Notify that the XML object returned by {@link #value()} is being modified in place. This drops the cached
+     * Saxon tree, which would no longer reflect the value.
+     */
+    public void markModified() {
+        this.xdmNode = null;
+    }
+
     @Override
     public String stringValue() {
         if (this.value != null) {
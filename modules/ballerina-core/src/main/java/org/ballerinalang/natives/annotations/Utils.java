@@ -46,13 +46,13 @@ public class Utils {
         try {
             switch (typeEnum) {
                 case BOOLEAN:
-                    bValue = new BBoolean(Boolean.parseBoolean(value));
+                    bValue = BBoolean.valueOf(Boolean.parseBoolean(value));
                     break;
                 case INT:
-                    bValue = new BInteger(Integer.parseInt(value));
+                    bValue = BInteger.valueOf(Integer.parseInt(value));
                     break;
                 case LONG:
-                    bValue = new BLong(Long.parseLong(value));
+                    bValue = BLong.valueOf(Long.parseLong(value));
                     break;
                 case DOUBLE:
                     bValue = new BDouble(Double.parseDouble(value));
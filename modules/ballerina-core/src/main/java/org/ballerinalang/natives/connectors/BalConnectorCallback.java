@@ -26,6 +26,9 @@ import org.ballerinalang.runtime.threadpool.ResponseWorkerThread;
 import org.ballerinalang.runtime.threadpool.ThreadPoolFactory;
 import org.wso2.carbon.messaging.CarbonMessage;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 /**
  * A class used by connectors to receive response from external system and correlate request context with response.
  */
@@ -35,7 +38,11 @@ public class BalConnectorCallback extends DefaultBalCallback {
 
     private Context context;
 
-    private boolean responseArrived = false;
+    private volatile boolean responseArrived = false;
+
+    // Used to release the waiting thread in blocking execution, without holding a monitor which would pin a
+    // virtual thread to its carrier.
+    private final CountDownLatch responseLatch = new CountDownLatch(1);
 
     private BValue valueRef;
 
@@ -54,6 +61,17 @@ public class BalConnectorCallback extends DefaultBalCallback {
         return responseArrived;
     }
 
+    /**
+     * Wait until the response arrives or the given timeout elapses.
+     *
+     * @param timeoutMillis maximum time to wait in milliseconds
+     * @return true if the response has arrived
+     * @throws InterruptedException if the waiting thread is interrupted
+     */
+    public boolean awaitResponse(long timeoutMillis) throws InterruptedException {
+        return responseLatch.await(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
     public BValue getValueRef() {
         return valueRef;
     }
@@ -70,9 +88,7 @@ public class BalConnectorCallback extends DefaultBalCallback {
             ThreadPoolFactory.getInstance().getExecutor().execute(new ResponseWorkerThread(carbonMessage, this));
         } else {
             // Release Thread.
-            synchronized (context) {
-                context.notifyAll();
-            }
+            responseLatch.countDown();
         }
     }
 
@@ -33,7 +33,7 @@ import java.util.function.Function;
 public class NativeCastMapper {
 
     public static final Function<BValueType, BValueType> INT_TO_LONG_FUNC =
-            (rVal) -> new BLong(rVal.longValue());
+            (rVal) -> BLong.valueOf(rVal.longValue());
 
     public static final Function<BValueType, BValueType> INT_TO_FLOAT_FUNC =
             (rVal) -> new BFloat(rVal.floatValue());
@@ -57,7 +57,7 @@ public class NativeCastMapper {
             (rVal) -> new BString(rVal.stringValue());
 
     public static final Function<BValueType, BValueType> LONG_TO_INT_FUNC =
-            (rVal) -> new BInteger(rVal.intValue());
+            (rVal) -> BInteger.valueOf(rVal.intValue());
 
     public static final Function<BValueType, BValueType> LONG_TO_LONG_FUNC =
             (rVal) -> rVal;
@@ -72,10 +72,10 @@ public class NativeCastMapper {
             (rVal) -> rVal;
 
     public static final Function<BValueType, BValueType> FLOAT_TO_LONG_FUNC =
-            (rVal) -> new BLong(rVal.longValue());
+            (rVal) -> BLong.valueOf(rVal.longValue());
 
     public static final Function<BValueType, BValueType> FLOAT_TO_INT_FUNC =
-            (rVal) -> new BInteger(rVal.intValue());
+            (rVal) -> BInteger.valueOf(rVal.intValue());
 
     public static final Function<BValueType, BValueType> DOUBLE_TO_STRING_FUNC =
             (rVal) -> new BString(rVal.stringValue());
@@ -87,16 +87,16 @@ public class NativeCastMapper {
             (rVal) -> new BFloat(rVal.floatValue());
 
     public static final Function<BValueType, BValueType> DOUBLE_TO_INT_FUNC =
-            (rVal) -> new BInteger(rVal.intValue());
+            (rVal) -> BInteger.valueOf(rVal.intValue());
 
     public static final Function<BValueType, BValueType> DOUBLE_TO_LONG_FUNC =
-            (rVal) -> new BLong(rVal.longValue());
+            (rVal) -> BLong.valueOf(rVal.longValue());
 
     public static final Function<BValueType, BValueType> STRING_TO_INT_FUNC =
-            (rVal) -> new BInteger(rVal.intValue());
+            (rVal) -> BInteger.valueOf(rVal.intValue());
 
     public static final Function<BValueType, BValueType> STRING_TO_LONG_FUNC =
-            (rVal) -> new BLong(rVal.longValue());
+            (rVal) -> BLong.valueOf(rVal.longValue());
 
     public static final Function<BValueType, BValueType> STRING_TO_FLOAT_FUNC =
             (rVal) -> new BFloat(rVal.floatValue());
@@ -105,7 +105,7 @@ public class NativeCastMapper {
             (rVal) -> new BDouble(rVal.doubleValue());
 
     public static final Function<BValueType, BValueType> STRING_TO_BOOLEAN_FUNC =
-            (rVal) -> new BBoolean(rVal.booleanValue());
+            (rVal) -> BBoolean.valueOf(rVal.booleanValue());
 
     public static final Function<BValueType, BValueType> STRING_TO_STRING_FUNC =
             (rVal) -> rVal;
@@ -19,7 +19,6 @@
 package org.ballerinalang.runtime;
 
 import org.ballerinalang.bre.BLangExecutor;
-import org.ballerinalang.bre.CallableUnitInfo;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.bre.RuntimeEnvironment;
 import org.ballerinalang.bre.StackFrame;
@@ -55,62 +54,51 @@ import java.util.Map;
  */
 public class BalProgramExecutor {
 
+    private static final BValue[] EMPTY_RETURN_VALUES = new BValue[0];
+
     public static void execute(CarbonMessage cMsg, CarbonCallback callback, Resource resource, Service service,
                                Context balContext) {
 
-        balContext.setServiceInfo(
-                new CallableUnitInfo(service.getName(), service.getPackagePath(), service.getNodeLocation()));
+        balContext.setServiceInfo(service.getServiceInfo());
 
         balContext.setBalCallback(new DefaultBalCallback(callback));
-        Expression[] exprs = new Expression[resource.getParameterDefs().length];
+        ResourceInvocationExpr resourceIExpr = getResourceInvocationExpr(resource);
 
-        BValue[] argValues = new BValue[resource.getParameterDefs().length];
+        ParameterDef[] parameterDefs = resource.getParameterDefs();
+        BValue[] argValues = new BValue[parameterDefs.length];
 
-        int locationCounter = 0;
-        for (ParameterDef parameter : resource.getParameterDefs()) {
-            NodeLocation nodeLocation = parameter.getNodeLocation();
-            String parameterName = parameter.getName();
-            VariableRefExpr variableRefExpr = new VariableRefExpr(nodeLocation, parameterName);
-            StackVarLocation location = new StackVarLocation(locationCounter);
-            VariableDef variableDef = new VariableDef(nodeLocation, parameter.getType(), new SymbolName(parameterName));
-            variableRefExpr.setVariableDef(variableDef);
-            variableRefExpr.setMemoryLocation(location);
-            variableRefExpr.setType(parameter.getType());
-            exprs[locationCounter] = variableRefExpr;
+        // Set message as the first argument
+        if (parameterDefs.length > 0) {
+            argValues[0] = new BMessage(cMsg);
+        }
 
-            // Set message as the first argument
-            if (locationCounter == 0) {
-                argValues[locationCounter] = new BMessage(cMsg);
-            } else {
-                Map<String, String> resourceArgsMap =
-                        (Map<String, String>) cMsg.getProperty(
-                                org.ballerinalang.runtime.Constants.RESOURCE_ARGS);
+        if (parameterDefs.length > 1) {
+            Map<String, String> resourceArgsMap =
+                    (Map<String, String>) cMsg.getProperty(org.ballerinalang.runtime.Constants.RESOURCE_ARGS);
 
+            for (int i = 1; i < parameterDefs.length; i++) {
+                ParameterDef parameter = parameterDefs[i];
                 for (Annotation annotation : parameter.getAnnotations()) {
                     if (resourceArgsMap.get(annotation.getValue()) != null) {
                         // ToDo Only String and Int param types are supported.
                         if (parameter.getType() == BTypes.typeString) {
-                            argValues[locationCounter] = new BString(resourceArgsMap.get(annotation.getValue()));
+                            argValues[i] = new BString(resourceArgsMap.get(annotation.getValue()));
                         } else if (parameter.getType() == BTypes.typeInt) {
-                            argValues[locationCounter] = new BInteger(Integer.parseInt(
+                            argValues[i] = BInteger.valueOf(Integer.parseInt(
                                     resourceArgsMap.get(annotation.getValue())));
                         }
                     }
                 }
             }
-            locationCounter++;
         }
 
         // Create the interpreter and Execute
         RuntimeEnvironment runtimeEnv = service.getBLangProgram().getRuntimeEnvironment();
 
-        SymbolName resourceSymbolName = resource.getSymbolName();
-        CallableUnitInfo resourceInfo = new CallableUnitInfo(resourceSymbolName.getName(),
-                resourceSymbolName.getName(), resource.getNodeLocation());
-
         BValue[] cacheValues = new BValue[resource.getTempStackFrameSize()];
 
-        StackFrame currentStackFrame = new StackFrame(argValues, new BValue[0], cacheValues, resourceInfo);
+        StackFrame currentStackFrame = new StackFrame(argValues, EMPTY_RETURN_VALUES, cacheValues,
+                resourceIExpr.getCallableUnitInfo());
         balContext.getControlStack().pushFrame(currentStackFrame);
         if (ModeResolver.getInstance().isDebugEnabled()) {
             DebugManager debugManager = DebugManager.getInstance();
@@ -119,26 +107,59 @@ public class BalProgramExecutor {
                 BLangExecutionDebugger debugger = new BLangExecutionDebugger(runtimeEnv, balContext);
                 debugManager.setDebugger(debugger);
                 balContext.setExecutor(debugger);
-                debugger.execute(new ResourceInvocationExpr(resource, exprs));
+                debugger.execute(resourceIExpr);
             } else {
                 // repeated code to make sure debugger have no impact in none debug mode.
                 if (ModeResolver.getInstance().isNonblockingEnabled()) {
                     BLangNonBlockingExecutor executor = new BLangNonBlockingExecutor(runtimeEnv, balContext);
                     balContext.setExecutor(executor);
-                    executor.execute(new ResourceInvocationExpr(resource, exprs));
+                    executor.execute(resourceIExpr);
                 } else {
                     BLangExecutor executor = new BLangExecutor(runtimeEnv, balContext);
-                    new ResourceInvocationExpr(resource, exprs).executeMultiReturn(executor);
+                    resourceIExpr.executeMultiReturn(executor);
                 }
             }
         } else if (ModeResolver.getInstance().isNonblockingEnabled()) {
             BLangNonBlockingExecutor executor = new BLangNonBlockingExecutor(runtimeEnv, balContext);
             balContext.setExecutor(executor);
-            executor.execute(new ResourceInvocationExpr(resource, exprs));
+            executor.execute(resourceIExpr);
         } else {
             BLangExecutor executor = new BLangExecutor(runtimeEnv, balContext);
-            new ResourceInvocationExpr(resource, exprs).executeMultiReturn(executor);
+            resourceIExpr.executeMultiReturn(executor);
             balContext.getControlStack().popFrame();
         }
     }
+
+    /**
+     * Get the expression which invokes a resource, creating it on the first request dispatched to the resource.
+     * The expression only refers to the parameters of the resource, and is shared by all its requests.
+     *
+     * @param resource resource to invoke
+     * @return resource invocation expression
+     */
+    private static ResourceInvocationExpr getResourceInvocationExpr(Resource resource) {
+        ResourceInvocationExpr resourceIExpr = resource.getResourceInvocationExpr();
+        if (resourceIExpr != null) {
+            return resourceIExpr;
+        }
+
+        ParameterDef[] parameterDefs = resource.getParameterDefs();
+        Expression[] exprs = new Expression[parameterDefs.length];
+        for (int i = 0; i < parameterDefs.length; i++) {
+            ParameterDef parameter = parameterDefs[i];
+            NodeLocation nodeLocation = parameter.getNodeLocation();
+            String parameterName = parameter.getName();
+            VariableRefExpr variableRefExpr = new VariableRefExpr(nodeLocation, parameterName);
+            StackVarLocation location = new StackVarLocation(i);
+            VariableDef variableDef = new VariableDef(nodeLocation, parameter.getType(), new SymbolName(parameterName));
+            variableRefExpr.setVariableDef(variableDef);
+            variableRefExpr.setMemoryLocation(location);
+            variableRefExpr.setType(parameter.getType());
+            exprs[i] = variableRefExpr;
+        }
+
+        resourceIExpr = new ResourceInvocationExpr(resource, exprs);
+        resource.setResourceInvocationExpr(resourceIExpr);
+        return resourceIExpr;
+    }
 }
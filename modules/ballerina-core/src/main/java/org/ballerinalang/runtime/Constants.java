@@ -40,4 +40,31 @@ public class Constants {
     // Name of the system property to hold the debug port
     public static final String SYSTEM_PROP_BAL_DEBUG = "ballerina.debug";
 
+    // Name of the system property to hold the location of the ballerina.conf file
+    public static final String SYS_PROP_BALLERINA_CONF = "ballerina.conf";
+
+    // Configuration properties to size the request thread pool
+    public static final String CONF_REQUEST_POOL_CORE_SIZE = "ballerina.threadpool.request.coreSize";
+    public static final String CONF_REQUEST_POOL_MAX_SIZE = "ballerina.threadpool.request.maxSize";
+    public static final String CONF_REQUEST_POOL_QUEUE_SIZE = "ballerina.threadpool.request.queueSize";
+    public static final String CONF_REQUEST_POOL_KEEP_ALIVE = "ballerina.threadpool.request.keepAliveSeconds";
+
+    // Configuration property to run request, response and worker tasks on virtual threads
+    public static final String CONF_VIRTUAL_THREADS_ENABLED = "ballerina.threadpool.virtualThreads";
+
+    // Configuration properties to size the worker scheduler
+    public static final String SYS_PROP_WORKER_POOL_SIZE = "ballerina.worker.poolSize";
+
+    // Configuration property to set the parallelism of the fork/join scheduler
+    public static final String SYS_PROP_FORKJOIN_POOL_SIZE = "ballerina.forkjoin.poolSize";
+
+    // Configuration property to set the number of compiled XPaths kept by the xml native functions
+    public static final String CONF_XPATH_CACHE_SIZE = "ballerina.xpath.cacheSize";
+
+    // Configuration property to set the number of compiled JSONPaths kept by the json native functions
+    public static final String CONF_JSONPATH_CACHE_SIZE = "ballerina.jsonpath.cacheSize";
+
+    // Configuration property to set how long the blocking executor waits for the response of an HTTP client action
+    public static final String CONF_HTTP_CLIENT_TIMEOUT = "ballerina.http.client.timeoutSeconds";
+
 }
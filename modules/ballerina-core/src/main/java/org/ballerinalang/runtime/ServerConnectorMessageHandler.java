@@ -28,6 +28,7 @@ import org.ballerinalang.services.dispatchers.DispatcherRegistry;
 import org.ballerinalang.services.dispatchers.ResourceDispatcher;
 import org.ballerinalang.services.dispatchers.ServiceDispatcher;
 import org.ballerinalang.util.exceptions.BallerinaException;
+import org.ballerinalang.util.exceptions.RequestRejectedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.messaging.CarbonCallback;
@@ -137,6 +138,28 @@ public class ServerConnectorMessageHandler {
 
     }
 
+    /**
+     * Notify the server connector that a request was rejected since the engine can not accept more requests.
+     *
+     * @param cMsg     Rejected request message
+     * @param callback Callback of the server connector
+     */
+    public static void handleRejectedInbound(CarbonMessage cMsg, CarbonCallback callback) {
+        String errorMsg = "request rejected: server is too busy to accept more requests";
+        log.warn(errorMsg);
+
+        Object protocol = cMsg.getProperty(org.wso2.carbon.messaging.Constants.PROTOCOL);
+        Optional<ServerConnectorErrorHandler> optionalErrorHandler =
+                BallerinaConnectorManager.getInstance().getServerConnectorErrorHandler((String) protocol);
+        try {
+            optionalErrorHandler
+                    .orElseGet(DefaultServerConnectorErrorHandler::getInstance)
+                    .handleError(new RequestRejectedException(errorMsg), cMsg, callback);
+        } catch (Exception e) {
+            log.error("cannot handle rejected request using the error handler for : " + protocol, e);
+        }
+    }
+
     public static void handleErrorFromOutbound(Context balContext, Throwable throwable) {
         String errorMsg = ErrorHandlerUtils.getErrorMessage(throwable);
         String stacktrace = ErrorHandlerUtils.getServiceStackTrace(balContext, throwable);
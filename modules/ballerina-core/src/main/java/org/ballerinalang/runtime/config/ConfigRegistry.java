@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.config;
+
+import org.ballerinalang.runtime.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+/**
+ * {@code ConfigRegistry} holds the runtime configuration of the Ballerina engine.
+ * <p>
+ * Values are looked up from the system properties first and then from the ballerina.conf file, which is read from
+ * the location given by the {@link Constants#SYS_PROP_BALLERINA_CONF} system property or from
+ * {@code <ballerina.home>/bre/conf/ballerina.conf}.
+ *
+ * @since 0.8.0
+ */
+public class ConfigRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(ConfigRegistry.class);
+
+    private static ConfigRegistry instance = new ConfigRegistry();
+
+    private final Properties properties = new Properties();
+
+    private ConfigRegistry() {
+        this(getConfFilePath());
+    }
+
+    /**
+     * Create a registry which reads the given configuration file.
+     *
+     * @param confFilePath path of the ballerina.conf file, or null if there is no configuration file
+     */
+    ConfigRegistry(Path confFilePath) {
+        if (confFilePath == null || !Files.isRegularFile(confFilePath)) {
+            return;
+        }
+
+        try (InputStream inputStream = Files.newInputStream(confFilePath)) {
+            properties.load(inputStream);
+        } catch (IOException e) {
+            log.warn("error reading configuration file: " + confFilePath + " reason: " + e.getMessage());
+        }
+    }
+
+    public static ConfigRegistry getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get the value of a configuration property.
+     *
+     * @param key configuration key
+     * @return value of the property or null if it is not configured
+     */
+    public String getProperty(String key) {
+        String value = System.getProperty(key);
+        if (value != null) {
+            return value;
+        }
+        value = properties.getProperty(key);
+        return value == null ? null : value.trim();
+    }
+
+    /**
+     * Get the value of a positive integer configuration property.
+     *
+     * @param key          configuration key
+     * @param defaultValue value to be used if the property is not configured or invalid
+     * @return value of the property
+     */
+    public int getIntProperty(String key, int defaultValue) {
+        String value = getProperty(key);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            int intValue = Integer.parseInt(value.trim());
+            if (intValue > 0) {
+                return intValue;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through to the default value
+        }
+        log.warn("invalid value '" + value + "' for " + key + ", using default: " + defaultValue);
+        return defaultValue;
+    }
+
+    /**
+     * Get the value of a boolean configuration property.
+     *
+     * @param key          configuration key
+     * @param defaultValue value to be used if the property is not configured
+     * @return value of the property
+     */
+    public boolean getBooleanProperty(String key, boolean defaultValue) {
+        String value = getProperty(key);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(value.trim());
+    }
+
+    private static Path getConfFilePath() {
+        String confFile = System.getProperty(Constants.SYS_PROP_BALLERINA_CONF);
+        if (confFile != null && !confFile.isEmpty()) {
+            return Paths.get(confFile);
+        }
+        String ballerinaHome = System.getProperty("ballerina.home");
+        if (ballerinaHome == null || ballerinaHome.isEmpty()) {
+            return null;
+        }
+        return Paths.get(ballerinaHome, "bre", "conf", "ballerina.conf");
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.message;
+
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+
+/**
+ * {@code BlobDataSource} holds a message payload as the bytes it was received with.
+ * <p>
+ * The bytes are written out as they are, so that binary payloads and payloads in other charsets are not changed when
+ * the message is forwarded. The payload is only decoded when it is read as a string.
+ *
+ * @since 0.8.0
+ */
+public class BlobDataSource extends BallerinaMessageDataSource {
+    private final byte[] value;
+    private OutputStream outputStream;
+    private String stringValue;
+
+    /**
+     * Create a blob datasource with the payload bytes.
+     *
+     * @param value Payload bytes
+     */
+    public BlobDataSource(byte[] value) {
+        this.value = value;
+        this.outputStream = null;
+    }
+
+    /**
+     * Create a blob datasource with the payload bytes and a target output stream.
+     *
+     * @param value         Payload bytes
+     * @param outputStream  Target outputstream
+     */
+    public BlobDataSource(byte[] value, OutputStream outputStream) {
+        this.value = value;
+        this.outputStream = outputStream;
+    }
+
+    public byte[] getValue() {
+        return value;
+    }
+
+    @Override
+    public void serializeData() {
+        try {
+            this.outputStream.write(this.value);
+        } catch (IOException e) {
+            throw new BallerinaException("Error occurred during writing the message to the output stream", e);
+        }
+    }
+
+    @Override
+    public void setOutputStream(OutputStream outputStream) {
+        this.outputStream = outputStream;
+    }
+
+    @Override
+    public String getMessageAsString() {
+        if (stringValue == null) {
+            stringValue = new String(this.value, Charset.defaultCharset());
+        }
+        return stringValue;
+    }
+
+    @Override
+    public BallerinaMessageDataSource clone() {
+        // The bytes are never modified, so the clone can share them
+        return new BlobDataSource(this.value);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.threadpool;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code MeteredThreadPoolExecutor} is a {@link ThreadPoolExecutor} which keeps track of the rejected tasks and the
+ * time the {@link WorkerThread}s spent in the queue before being executed.
+ *
+ * @since 0.8.0
+ */
+public class MeteredThreadPoolExecutor extends ThreadPoolExecutor {
+
+    private final LongAdder rejectedTasks = new LongAdder();
+    private final LongAdder startedTasks = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public MeteredThreadPoolExecutor(int corePoolSize, int maximumPoolSize, long keepAliveSeconds,
+                                     BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory,
+                                     RejectedExecutionHandler rejectionHandler) {
+        super(corePoolSize, maximumPoolSize, keepAliveSeconds, TimeUnit.SECONDS, workQueue, threadFactory);
+        setRejectedExecutionHandler((runnable, executor) -> {
+            rejectedTasks.increment();
+            rejectionHandler.rejectedExecution(runnable, executor);
+        });
+    }
+
+    @Override
+    protected void beforeExecute(Thread thread, Runnable runnable) {
+        super.beforeExecute(thread, runnable);
+        startedTasks.increment();
+        if (runnable instanceof WorkerThread) {
+            long waitTime = System.nanoTime() - ((WorkerThread) runnable).getCreatedTime();
+            totalWaitNanos.add(waitTime);
+            maxWaitNanos.accumulateAndGet(waitTime, Math::max);
+        }
+    }
+
+    /**
+     * Get the number of tasks waiting in the queue.
+     *
+     * @return queue length
+     */
+    public int getQueueLength() {
+        return getQueue().size();
+    }
+
+    /**
+     * Get the approximate number of threads which are executing tasks.
+     *
+     * @return number of active threads
+     */
+    public int getActiveThreads() {
+        return getActiveCount();
+    }
+
+    /**
+     * Get the number of tasks rejected since the queue was full.
+     *
+     * @return number of rejected tasks
+     */
+    public long getRejectedTasks() {
+        return rejectedTasks.sum();
+    }
+
+    /**
+     * Get the average time tasks spent in the queue before being executed, in milliseconds.
+     *
+     * @return average task wait time in milliseconds
+     */
+    public double getAverageWaitTimeMillis() {
+        long count = startedTasks.sum();
+        return count == 0 ? 0 : (double) totalWaitNanos.sum() / count / 1000000;
+    }
+
+    /**
+     * Get the maximum time a task spent in the queue before being executed, in milliseconds.
+     *
+     * @return maximum task wait time in milliseconds
+     */
+    public double getMaxWaitTimeMillis() {
+        return (double) maxWaitNanos.get() / 1000000;
+    }
+}
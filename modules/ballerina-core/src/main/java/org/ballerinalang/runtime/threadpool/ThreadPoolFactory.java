@@ -18,26 +18,56 @@
 
 package org.ballerinalang.runtime.threadpool;
 
+import org.ballerinalang.runtime.Constants;
+import org.ballerinalang.runtime.ServerConnectorMessageHandler;
+import org.ballerinalang.runtime.config.ConfigRegistry;
+
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@code ThreadPoolFactory} holds the thread pools in Ballerina engine.
+ * <p>
+ * The request thread pool is sized through the {@link Constants#CONF_REQUEST_POOL_CORE_SIZE},
+ * {@link Constants#CONF_REQUEST_POOL_MAX_SIZE} and {@link Constants#CONF_REQUEST_POOL_QUEUE_SIZE} configuration
+ * properties. Once the queue is full, new requests are rejected with a server busy error while responses of the
+ * requests which are already in flight are processed in the calling thread.
+ * <p>
+ * When virtual threads are enabled (see {@link VirtualThreads}), each task is executed on a new virtual thread
+ * instead, so that tasks blocked on connector calls do not hold platform threads.
  *
  * @since 0.8.0
  */
 public class ThreadPoolFactory {
 
+    private static final int DEFAULT_CORE_POOL_SIZE = 500;
+    private static final int DEFAULT_QUEUE_SIZE = 10000;
+    private static final int DEFAULT_KEEP_ALIVE_SECONDS = 60;
+
     private static ThreadPoolFactory instance = new ThreadPoolFactory();
 
-    //TODO: Make the thread count configurable.
-    // Ideally number of threads need to be calculated and spawned intelligently
-    // based on the environment and runtime status (CPU Usage, memory, etc).
-    // A configuration parameter which is user configurable is also required.
-    // Issue#1929
-    private ExecutorService executorService =  Executors.newFixedThreadPool(500);
+    private ExecutorService executorService;
+    private MeteredThreadPoolExecutor requestThreadPool;
+
+    private ThreadPoolFactory() {
+        if (VirtualThreads.isEnabled()) {
+            executorService = VirtualThreads.newExecutor();
+            return;
+        }
 
-    private ThreadPoolFactory(){};
+        ConfigRegistry config = ConfigRegistry.getInstance();
+        int coreSize = config.getIntProperty(Constants.CONF_REQUEST_POOL_CORE_SIZE, DEFAULT_CORE_POOL_SIZE);
+        int maxSize = Math.max(coreSize, config.getIntProperty(Constants.CONF_REQUEST_POOL_MAX_SIZE, coreSize));
+        int queueSize = config.getIntProperty(Constants.CONF_REQUEST_POOL_QUEUE_SIZE, DEFAULT_QUEUE_SIZE);
+        int keepAlive = config.getIntProperty(Constants.CONF_REQUEST_POOL_KEEP_ALIVE, DEFAULT_KEEP_ALIVE_SECONDS);
+
+        requestThreadPool = new MeteredThreadPoolExecutor(coreSize, maxSize, keepAlive,
+                new ArrayBlockingQueue<>(queueSize), new RequestThreadFactory(), ThreadPoolFactory::rejectTask);
+        executorService = requestThreadPool;
+    }
 
     public static ThreadPoolFactory getInstance() {
         return instance;
@@ -47,4 +77,36 @@ public class ThreadPoolFactory {
         return executorService;
     }
 
+    /**
+     * Get the request thread pool to read its metrics.
+     *
+     * @return request thread pool or null if tasks are executed on virtual threads
+     */
+    public MeteredThreadPoolExecutor getRequestThreadPool() {
+        return requestThreadPool;
+    }
+
+    static void rejectTask(Runnable runnable, ThreadPoolExecutor executor) {
+        if (runnable instanceof RequestWorkerThread) {
+            WorkerThread workerThread = (WorkerThread) runnable;
+            ServerConnectorMessageHandler.handleRejectedInbound(workerThread.getCarbonMessage(),
+                    workerThread.getCallback());
+        } else if (!executor.isShutdown()) {
+            // Responses of the requests which are already in flight can not be dropped.
+            runnable.run();
+        }
+    }
+
+    /**
+     * {@code RequestThreadFactory} creates named threads for the request thread pool.
+     */
+    private static class RequestThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            return new Thread(runnable, "ballerina-request-" + threadCount.incrementAndGet());
+        }
+    }
 }
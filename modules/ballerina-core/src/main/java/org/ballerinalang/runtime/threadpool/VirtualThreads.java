@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.threadpool;
+
+import org.ballerinalang.runtime.Constants;
+import org.ballerinalang.runtime.config.ConfigRegistry;
+import org.ballerinalang.util.exceptions.BLangRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * {@code VirtualThreads} resolves whether request, response and worker tasks are executed on virtual threads.
+ * <p>
+ * Virtual thread execution is enabled through the {@link Constants#CONF_VIRTUAL_THREADS_ENABLED} configuration
+ * property and is only used when the JVM supports virtual threads. Since the engine is built for older JVMs as
+ * well, the virtual thread executor is looked up reflectively.
+ *
+ * @since 0.8.0
+ */
+public class VirtualThreads {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreads.class);
+
+    private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = lookupVirtualThreadExecutor();
+
+    private static final boolean enabled = resolveEnabled();
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Check whether the running JVM supports virtual threads.
+     *
+     * @return true if virtual threads are supported
+     */
+    public static boolean isSupported() {
+        return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * Check whether tasks should be executed on virtual threads.
+     *
+     * @return true if virtual thread execution is enabled and supported
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Create an executor which starts a new virtual thread for each task.
+     *
+     * @return virtual thread per task executor
+     */
+    public static ExecutorService newExecutor() {
+        if (!isSupported()) {
+            throw new BLangRuntimeException("virtual threads are not supported by the JVM");
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new BLangRuntimeException("error creating virtual thread executor: " + e.getMessage());
+        }
+    }
+
+    private static Method lookupVirtualThreadExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static boolean resolveEnabled() {
+        if (!ConfigRegistry.getInstance().getBooleanProperty(Constants.CONF_VIRTUAL_THREADS_ENABLED, false)) {
+            return false;
+        }
+        if (!isSupported()) {
+            log.warn("virtual threads are not supported by the JVM, using platform threads");
+            return false;
+        }
+        return true;
+    }
+}
@@ -28,10 +28,12 @@ public abstract class WorkerThread implements Runnable {
 
     protected CarbonMessage cMsg;
     protected CarbonCallback callback;
+    private final long createdTime;
 
     public WorkerThread(CarbonMessage cMsg, CarbonCallback callback) {
         this.cMsg = cMsg;
         this.callback = callback;
+        this.createdTime = System.nanoTime();
     }
 
     public CarbonMessage getCarbonMessage() {
@@ -42,4 +44,13 @@ public abstract class WorkerThread implements Runnable {
         return callback;
     }
 
+    /**
+     * Get the time this task was created, as given by {@link System#nanoTime()}.
+     *
+     * @return creation time in nanoseconds
+     */
+    public long getCreatedTime() {
+        return createdTime;
+    }
+
 }
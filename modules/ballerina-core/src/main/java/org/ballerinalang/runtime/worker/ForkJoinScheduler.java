@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.worker;
+
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BLong;
+import org.ballerinalang.model.values.BMessage;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BValueType;
+import org.ballerinalang.runtime.Constants;
+import org.ballerinalang.runtime.config.ConfigRegistry;
+import org.ballerinalang.runtime.threadpool.VirtualThreads;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code ForkJoinScheduler} executes the workers of fork/join statements on a shared {@link ForkJoinPool}.
+ * <p>
+ * The parallelism of the pool can be set through the {@link Constants#SYS_PROP_FORKJOIN_POOL_SIZE} configuration
+ * property. When virtual threads are enabled (see {@link VirtualThreads}) each branch is executed on a new virtual
+ * thread instead.
+ * Branches which are not needed anymore, i.e. the remaining branches of a {@code join any} or the branches which did
+ * not complete before the timeout, are cancelled and interrupted if they are running.
+ *
+ * @since 0.8.0
+ */
+public class ForkJoinScheduler {
+
+    private static ForkJoinScheduler instance = new ForkJoinScheduler();
+
+    private final ForkJoinPool pool;
+    // Executor which runs the branches. This is the pool itself unless virtual threads are enabled.
+    private final Executor branchExecutor;
+
+    // Fork/join latency metrics
+    private final LongAdder forkCount = new LongAdder();
+    private final LongAdder timedOutForkCount = new LongAdder();
+    private final LongAdder cancelledBranchCount = new LongAdder();
+    private final LongAdder totalForkLatencyNanos = new LongAdder();
+    private final AtomicLong maxForkLatencyNanos = new AtomicLong();
+
+    private ForkJoinScheduler() {
+        int parallelism = ConfigRegistry.getInstance().getIntProperty(Constants.SYS_PROP_FORKJOIN_POOL_SIZE,
+                Runtime.getRuntime().availableProcessors() * 2);
+
+        pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("ballerina-forkjoin-" + thread.getPoolIndex());
+            return thread;
+        }, null, true);
+        branchExecutor = VirtualThreads.isEnabled() ? VirtualThreads.newExecutor() : pool;
+    }
+
+    public static ForkJoinScheduler getInstance() {
+        return instance;
+    }
+
+    /**
+     * Execute the given workers and return the reply of the first one which completes successfully.
+     * All the other workers are cancelled once a reply is available or the timeout elapses.
+     *
+     * @param workers       workers to be executed
+     * @param timeoutMillis maximum time to wait for a reply in milliseconds
+     * @return result of the fork/join, holding at most one message
+     */
+    public ForkJoinResult invokeAny(List<? extends Callable<BMessage>> workers, long timeoutMillis) {
+        long startTime = System.nanoTime();
+        long deadline = startTime + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        ForkJoinResult result = new ForkJoinResult();
+
+        BlockingQueue<Future<BMessage>> completions = new LinkedBlockingQueue<>();
+        List<Future<BMessage>> futures = new ArrayList<>(workers.size());
+        try {
+            fork(workers, futures, completions);
+
+            for (int pending = futures.size(); pending > 0; pending--) {
+                Future<BMessage> completed = awaitCompletion(completions, deadline);
+                if (completed == null) {
+                    result.timedOut = true;
+                    break;
+                }
+                BMessage message = getReply(completed);
+                if (message != null) {
+                    result.messages.add(message);
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            cancel(futures);
+            recordFork(startTime, result.timedOut);
+        }
+        return result;
+    }
+
+    /**
+     * Execute the given workers and return the replies of all of them, in the given order.
+     * Workers which have not completed when the timeout elapses are cancelled.
+     *
+     * @param workers       workers to be executed
+     * @param timeoutMillis maximum time to wait for the replies in milliseconds
+     * @return result of the fork/join, holding the replies of the completed workers
+     */
+    public ForkJoinResult invokeAll(List<? extends Callable<BMessage>> workers, long timeoutMillis) {
+        long startTime = System.nanoTime();
+        long deadline = startTime + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        ForkJoinResult result = new ForkJoinResult();
+
+        BlockingQueue<Future<BMessage>> completions = new LinkedBlockingQueue<>();
+        List<Future<BMessage>> futures = new ArrayList<>(workers.size());
+        try {
+            fork(workers, futures, completions);
+
+            for (int pending = futures.size(); pending > 0; pending--) {
+                if (awaitCompletion(completions, deadline) == null) {
+                    result.timedOut = true;
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Keep the replies of the branches which have completed, even if the join timed out
+            for (Future<BMessage> future : futures) {
+                BMessage message = future.isDone() ? getReply(future) : null;
+                if (message != null) {
+                    result.messages.add(message);
+                }
+            }
+            cancel(futures);
+            recordFork(startTime, result.timedOut);
+        }
+        return result;
+    }
+
+    /**
+     * Convert the value of a fork/join timeout expression, given in seconds, to milliseconds.
+     * Fractional values are honored so that sub-second timeouts can be given as float or double values.
+     *
+     * @param timeout value of the timeout expression
+     * @return timeout in milliseconds
+     */
+    public static long toTimeoutMillis(BValue timeout) {
+        if (timeout instanceof BInteger || timeout instanceof BLong) {
+            return TimeUnit.SECONDS.toMillis(((BValueType) timeout).longValue());
+        }
+        return (long) (((BValueType) timeout).doubleValue() * 1000);
+    }
+
+    public long getForkCount() {
+        return forkCount.sum();
+    }
+
+    public long getTimedOutForkCount() {
+        return timedOutForkCount.sum();
+    }
+
+    public long getCancelledBranchCount() {
+        return cancelledBranchCount.sum();
+    }
+
+    /**
+     * Get the average time taken from forking the workers until the join, in milliseconds.
+     *
+     * @return average fork/join latency in milliseconds
+     */
+    public double getAverageForkLatencyMillis() {
+        long count = forkCount.sum();
+        return count == 0 ? 0 : (double) totalForkLatencyNanos.sum() / count / 1000000;
+    }
+
+    public double getMaxForkLatencyMillis() {
+        return (double) maxForkLatencyNanos.get() / 1000000;
+    }
+
+    public int getActiveBranches() {
+        return pool.getActiveThreadCount();
+    }
+
+    public long getQueuedBranches() {
+        return pool.getQueuedSubmissionCount() + pool.getQueuedTaskCount();
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    private void fork(List<? extends Callable<BMessage>> workers, List<Future<BMessage>> futures,
+                      BlockingQueue<Future<BMessage>> completions) {
+        for (Callable<BMessage> worker : workers) {
+            // Branches are wrapped in a FutureTask, since cancelling a task submitted to the ForkJoinPool
+            // directly does not interrupt it once it is running
+            BranchTask task = new BranchTask(worker, completions);
+            futures.add(task);
+            branchExecutor.execute(task);
+        }
+    }
+
+    /**
+     * Wait for the next branch to complete. The wait is managed by the pool when the joining thread is a branch of
+     * an enclosing fork/join, so that the pool adds a thread to run the nested branches.
+     *
+     * @param completions queue which the branches are added to once they complete
+     * @param deadline    time to stop waiting at, as given by {@link System#nanoTime()}
+     * @return the completed branch, or null if the deadline has passed
+     * @throws InterruptedException if the joining thread is interrupted
+     */
+    private static Future<BMessage> awaitCompletion(BlockingQueue<Future<BMessage>> completions, long deadline)
+            throws InterruptedException {
+        CompletionBlocker blocker = new CompletionBlocker(completions, deadline);
+        ForkJoinPool.managedBlock(blocker);
+        return blocker.completed;
+    }
+
+    private static BMessage getReply(Future<BMessage> completed) {
+        try {
+            return completed.get();
+        } catch (ExecutionException | CancellationException e) {
+            // Failed branch
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private void cancel(List<Future<BMessage>> futures) {
+        for (Future<BMessage> future : futures) {
+            if (!future.isDone() && future.cancel(true)) {
+                cancelledBranchCount.increment();
+            }
+        }
+    }
+
+    private void recordFork(long startTime, boolean timedOut) {
+        long latency = System.nanoTime() - startTime;
+        forkCount.increment();
+        totalForkLatencyNanos.add(latency);
+        maxForkLatencyNanos.accumulateAndGet(latency, Math::max);
+        if (timedOut) {
+            timedOutForkCount.increment();
+        }
+    }
+
+    /**
+     * {@code BranchTask} executes a branch of a fork/join and adds itself to the completion queue of the join once
+     * it is done.
+     */
+    private static class BranchTask extends FutureTask<BMessage> {
+
+        private final BlockingQueue<Future<BMessage>> completions;
+
+        BranchTask(Callable<BMessage> worker, BlockingQueue<Future<BMessage>> completions) {
+            super(worker);
+            this.completions = completions;
+        }
+
+        @Override
+        protected void done() {
+            completions.add(this);
+        }
+    }
+
+    /**
+     * {@code CompletionBlocker} waits for the next branch of a fork/join to complete.
+     */
+    private static class CompletionBlocker implements ForkJoinPool.ManagedBlocker {
+
+        private final BlockingQueue<Future<BMessage>> completions;
+        private final long deadline;
+        private Future<BMessage> completed;
+
+        CompletionBlocker(BlockingQueue<Future<BMessage>> completions, long deadline) {
+            this.completions = completions;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean block() throws InterruptedException {
+            long remaining = deadline - System.nanoTime();
+            if (completed == null && remaining > 0) {
+                completed = completions.poll(remaining, TimeUnit.NANOSECONDS);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            if (completed == null) {
+                completed = completions.poll();
+            }
+            return completed != null || deadline - System.nanoTime() <= 0;
+        }
+    }
+
+    /**
+     * {@code ForkJoinResult} holds the replies collected at the join and whether the join timed out.
+     */
+    public static class ForkJoinResult {
+
+        private List<BMessage> messages = new ArrayList<>();
+        private boolean timedOut;
+
+        public List<BMessage> getMessages() {
+            return messages;
+        }
+
+        public boolean isTimedOut() {
+            return timedOut;
+        }
+    }
+}
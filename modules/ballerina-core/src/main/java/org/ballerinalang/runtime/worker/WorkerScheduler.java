@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.worker;
+
+import org.ballerinalang.model.values.BMessage;
+import org.ballerinalang.runtime.Constants;
+import org.ballerinalang.runtime.config.ConfigRegistry;
+import org.ballerinalang.runtime.threadpool.VirtualThreads;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code WorkerScheduler} is the runtime wide thread pool which executes Ballerina workers.
+ * <p>
+ * Worker invocations from both the blocking and the non-blocking engines are submitted here instead of creating
+ * an executor per invocation. Workers usually block on connector calls, so the pool is not sized by the number of
+ * processors. Each worker is handed to an idle thread or to a new one, up to the
+ * {@link Constants#SYS_PROP_WORKER_POOL_SIZE} configuration property, and is never queued behind other workers.
+ * Once all the threads are busy the worker is executed in the invoking thread, so that an invoker waiting for the
+ * reply of a worker never waits for a worker which has not started. When virtual threads are enabled
+ * (see {@link VirtualThreads}) each worker is executed on a new virtual thread instead.
+ *
+ * @since 0.8.0
+ */
+public class WorkerScheduler {
+
+    private static final int DEFAULT_MAX_POOL_SIZE = 500;
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private static WorkerScheduler instance = new WorkerScheduler();
+
+    private final ThreadPoolExecutor executor;
+    // Executor used instead of the pool when virtual threads are enabled
+    private ExecutorService virtualThreadExecutor;
+    private final AtomicLong submittedWorkers = new AtomicLong();
+    private final AtomicLong callerRunWorkers = new AtomicLong();
+
+    private WorkerScheduler() {
+        this(Runtime.getRuntime().availableProcessors(), ConfigRegistry.getInstance()
+                .getIntProperty(Constants.SYS_PROP_WORKER_POOL_SIZE, DEFAULT_MAX_POOL_SIZE));
+
+        if (VirtualThreads.isEnabled()) {
+            virtualThreadExecutor = VirtualThreads.newExecutor();
+        }
+    }
+
+    WorkerScheduler(int corePoolSize, int maxPoolSize) {
+        executor = new ThreadPoolExecutor(Math.min(corePoolSize, maxPoolSize), maxPoolSize, KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS, new SynchronousQueue<>(), new WorkerThreadFactory(), this::rejectWorker);
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    public static WorkerScheduler getInstance() {
+        return instance;
+    }
+
+    /**
+     * Schedule a worker for execution.
+     *
+     * @param workerTask worker to be executed
+     * @return future holding the reply message of the worker
+     */
+    public Future<BMessage> submit(Callable<BMessage> workerTask) {
+        submittedWorkers.incrementAndGet();
+        if (virtualThreadExecutor != null) {
+            return virtualThreadExecutor.submit(workerTask);
+        }
+        WorkerTask task = new WorkerTask(workerTask);
+        executor.execute(task);
+        return task;
+    }
+
+    /**
+     * Stop accepting workers. Workers submitted afterwards fail with a {@link RejectedExecutionException}.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Get the approximate number of workers currently being executed.
+     *
+     * @return number of active workers
+     */
+    public int getActiveWorkers() {
+        return executor.getActiveCount();
+    }
+
+    public int getPoolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    public long getSubmittedWorkers() {
+        return submittedWorkers.get();
+    }
+
+    public long getCompletedWorkers() {
+        return executor.getCompletedTaskCount();
+    }
+
+    /**
+     * Get the number of workers which were executed in the invoking thread since all the threads were busy.
+     *
+     * @return number of workers run by the caller
+     */
+    public long getCallerRunWorkers() {
+        return callerRunWorkers.get();
+    }
+
+    private void rejectWorker(Runnable runnable, ThreadPoolExecutor pool) {
+        if (pool.isShutdown()) {
+            // Fail the worker right away rather than leaving the invoker to wait for the reply timeout
+            ((WorkerTask) runnable).fail(new RejectedExecutionException("worker scheduler is shut down"));
+            return;
+        }
+        callerRunWorkers.incrementAndGet();
+        runnable.run();
+    }
+
+    /**
+     * {@code WorkerTask} is the future of a worker, which can be failed when the worker is rejected.
+     */
+    private static class WorkerTask extends FutureTask<BMessage> {
+
+        WorkerTask(Callable<BMessage> workerTask) {
+            super(workerTask);
+        }
+
+        void fail(Throwable cause) {
+            setException(cause);
+        }
+    }
+
+    /**
+     * {@code WorkerThreadFactory} creates named daemon threads for the worker scheduler.
+     */
+    private static class WorkerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "ballerina-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -19,12 +19,9 @@ package org.ballerinalang.services;
 import org.ballerinalang.bre.CallableUnitInfo;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.bre.ControlStack;
-import org.ballerinalang.bre.StackFrame;
 import org.ballerinalang.model.NodeLocation;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
-import java.util.Stack;
-
 /**
  * Class contains utility methods for ballerina server error handling.
  */
@@ -101,13 +98,11 @@ public class ErrorHandlerUtils {
     private static String getStackTrace(Context context, Throwable throwable, int stackStartIndex) {
         ControlStack controlStack = context.getControlStack();
         StringBuilder sb = new StringBuilder();
-        Stack<StackFrame> stack = controlStack.getStack();
-
         if (throwable instanceof StackOverflowError) {
-            populateStackOverflowTrace(sb, stack, stackStartIndex);
+            populateStackOverflowTrace(sb, controlStack, stackStartIndex);
         } else {
-            for (int i = stack.size() - 1; i >= stackStartIndex; i--) {
-                CallableUnitInfo frameInfo = stack.get(i).getNodeInfo();
+            for (int i = controlStack.size() - 1; i >= stackStartIndex; i--) {
+                CallableUnitInfo frameInfo = controlStack.getFrame(i).getNodeInfo();
                 String pkgName = (frameInfo.getPackage() != null) ? frameInfo.getPackage() + ":" : "";
                 sb.append("\t at ").append(pkgName).append(frameInfo.getName())
                         .append(getNodeLocation(frameInfo)).append("\n");
@@ -139,16 +134,16 @@ public class ErrorHandlerUtils {
      * @param sb    String buffer to populate the stack trace
      * @param stack Current stack
      */
-    private static void populateStackOverflowTrace(StringBuilder sb, Stack<StackFrame> stack, int stackStartIndex) {
+    private static void populateStackOverflowTrace(StringBuilder sb, ControlStack stack, int stackStartIndex) {
         for (int i = stack.size() - 1; i >= stack.size() - STACK_TRACE_LIMIT; i--) {
-            CallableUnitInfo frameInfo = stack.get(i).getNodeInfo();
+            CallableUnitInfo frameInfo = stack.getFrame(i).getNodeInfo();
             String pkgName = (frameInfo.getPackage() != null) ? frameInfo.getPackage() + ":" : "";
             sb.append("\t at " + pkgName + frameInfo.getName() + getNodeLocation(frameInfo)
                     + "\n");
         }
         sb.append("\t ...\n\t ...\n");
         for (int i = STACK_TRACE_LIMIT + stackStartIndex - 1; i >= stackStartIndex; i--) {
-            CallableUnitInfo frameInfo = stack.get(i).getNodeInfo();
+            CallableUnitInfo frameInfo = stack.getFrame(i).getNodeInfo();
             String pkgName = (frameInfo.getPackage() != null) ? frameInfo.getPackage() + ":" : "";
             sb.append("\t at " + pkgName + frameInfo.getName() + getNodeLocation(frameInfo)
                     + "\n");
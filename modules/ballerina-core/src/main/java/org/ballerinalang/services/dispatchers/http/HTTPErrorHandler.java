@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.services.dispatchers.http;
 
+import org.ballerinalang.util.exceptions.RequestRejectedException;
 import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +43,10 @@ public class HTTPErrorHandler implements ServerConnectorErrorHandler {
 
     @Override
     public void handleError(Exception e, CarbonMessage carbonMessage, CarbonCallback callback) {
+        if (e instanceof RequestRejectedException) {
+            callback.done(createErrorMessage(e.getMessage(), 503));
+            return;
+        }
         callback.done(createErrorMessage(e.getMessage(), 500));
     }
 
@@ -19,7 +19,6 @@
 package org.ballerinalang.services.dispatchers.http;
 
 import org.ballerinalang.bre.Context;
-import org.ballerinalang.model.Annotation;
 import org.ballerinalang.model.Resource;
 import org.ballerinalang.model.Service;
 import org.ballerinalang.services.dispatchers.ResourceDispatcher;
@@ -27,8 +26,6 @@ import org.ballerinalang.services.dispatchers.uri.QueryParamProcessor;
 import org.ballerinalang.services.dispatchers.uri.URITemplate;
 import org.ballerinalang.services.dispatchers.uri.URITemplateException;
 import org.ballerinalang.util.exceptions.BallerinaException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.wso2.carbon.messaging.CarbonCallback;
 import org.wso2.carbon.messaging.CarbonMessage;
 
@@ -40,8 +37,6 @@ import java.util.Map;
  */
 public class HTTPResourceDispatcher implements ResourceDispatcher {
 
-    private static final Logger log = LoggerFactory.getLogger(HTTPResourceDispatcher.class);
-
     @Override
     public Resource findResource(Service service, CarbonMessage cMsg, CarbonCallback callback, Context balContext)
             throws BallerinaException {
@@ -50,36 +45,21 @@ public class HTTPResourceDispatcher implements ResourceDispatcher {
         String subPath = (String) cMsg.getProperty(Constants.SUB_PATH);
 
         try {
-            for (Resource resource : service.getResources()) {
-                Annotation subPathAnnotation = resource.getAnnotation(Constants.PROTOCOL_HTTP,
-                        Constants.ANNOTATION_NAME_PATH);
-                String subPathAnnotationVal;
-                if (subPathAnnotation != null) {
-                    subPathAnnotationVal = subPathAnnotation.getValue();
-                } else {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Path not specified in the Resource, using default sub path");
-                    }
-                    subPathAnnotationVal = Constants.DEFAULT_SUB_PATH;
-                }
-
-                Map<String, String> resourceArgumentValues = new HashMap<>();
-                //to enable dispatchers with query params products/{productId}?regID={regID}
-                String queryStr = cMsg.getProperty(Constants.QUERY_STR) != null
-                                  ? "?" + cMsg.getProperty(Constants.QUERY_STR)
-                                  : "";
-                if ((matches(subPathAnnotationVal, (subPath + queryStr), resourceArgumentValues) ||
-                        Constants.DEFAULT_SUB_PATH.equals(subPathAnnotationVal))
-                        && (resource.getAnnotation(Constants.PROTOCOL_HTTP, method) != null)) {
-
-                    if (cMsg.getProperty(Constants.QUERY_STR) != null) {
-                        QueryParamProcessor.processQueryParams
-                                ((String) cMsg.getProperty(Constants.QUERY_STR))
-                                .forEach((resourceArgumentValues::put));
-                    }
-                    cMsg.setProperty(org.ballerinalang.runtime.Constants.RESOURCE_ARGS, resourceArgumentValues);
-                    return resource;
+            //to enable dispatchers with query params products/{productId}?regID={regID}
+            String queryStr = cMsg.getProperty(Constants.QUERY_STR) != null
+                              ? "?" + cMsg.getProperty(Constants.QUERY_STR)
+                              : "";
+            ResourceRoutingTable routingTable = HTTPServicesRegistry.getInstance().getRoutingTable(service);
+            Map<String, String> resourceArgumentValues = new HashMap<>();
+            Resource resource = routingTable.findResource(method, subPath + queryStr, resourceArgumentValues);
+            if (resource != null) {
+                if (cMsg.getProperty(Constants.QUERY_STR) != null) {
+                    QueryParamProcessor.processQueryParams
+                            ((String) cMsg.getProperty(Constants.QUERY_STR))
+                            .forEach((resourceArgumentValues::put));
                 }
+                cMsg.setProperty(org.ballerinalang.runtime.Constants.RESOURCE_ARGS, resourceArgumentValues);
+                return resource;
             }
         } catch (Throwable e) {
             throw new BallerinaException(e.getMessage(), balContext);
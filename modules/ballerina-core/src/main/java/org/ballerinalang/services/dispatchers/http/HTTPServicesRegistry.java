@@ -46,6 +46,8 @@ public class HTTPServicesRegistry {
 
     // Outer Map key=interface, Inner Map key=basePath
     private final Map<String, Map<String, Service>> servicesMap = new ConcurrentHashMap<>();
+    // Pre-parsed resource routes of the registered services
+    private final Map<Service, ResourceRoutingTable> routingTables = new ConcurrentHashMap<>();
     private static final HTTPServicesRegistry servicesRegistry = new HTTPServicesRegistry();
 
     private HTTPServicesRegistry() {
@@ -72,6 +74,22 @@ public class HTTPServicesRegistry {
         return servicesMap.get(interfaceId);
     }
 
+    /**
+     * Get the resource routing table of a service. The table is built when the service is registered, or on first
+     * use for services dispatched without being registered.
+     *
+     * @param service service to be dispatched to.
+     * @return the {@link ResourceRoutingTable} of the service.
+     */
+    public ResourceRoutingTable getRoutingTable(Service service) {
+        ResourceRoutingTable routingTable = routingTables.get(service);
+        if (routingTable == null) {
+            routingTable = routingTables.computeIfAbsent(service,
+                    key -> new ResourceRoutingTable(key.getResources()));
+        }
+        return routingTable;
+    }
+
     /**
      * Register a service into the map.
      * @param service requested service to register.
@@ -120,6 +138,7 @@ public class HTTPServicesRegistry {
         }
 
         servicesOnInterface.put(basePath, service);
+        routingTables.put(service, new ResourceRoutingTable(service.getResources()));
 
         logger.info("Service deployed : " +
                          (service.getSymbolName().getPkgPath() != null ?
@@ -155,6 +174,7 @@ public class HTTPServicesRegistry {
             basePath = Constants.DEFAULT_BASE_PATH.concat(basePath);
         }
 
+        routingTables.remove(service);
         Map<String, Service> servicesOnInterface = servicesMap.get(listenerInterface);
         if (servicesOnInterface != null) {
             servicesOnInterface.remove(basePath);
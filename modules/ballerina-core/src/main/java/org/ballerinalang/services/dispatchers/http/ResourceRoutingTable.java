@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.services.dispatchers.http;
+
+import org.ballerinalang.model.Annotation;
+import org.ballerinalang.model.Resource;
+import org.ballerinalang.services.dispatchers.uri.URITemplate;
+import org.ballerinalang.services.dispatchers.uri.URITemplateException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code ResourceRoutingTable} holds the pre-parsed URI templates of the resources of a HTTP service.
+ * <p>
+ * Resources are grouped into buckets by the HTTP method they accept. Within a bucket, the resources are arranged in a
+ * trie keyed by the literal prefix of their URI templates, so that only the templates which can possibly match a
+ * request path are evaluated. When more than one resource matches, the one declared first in the service wins.
+ *
+ * @since 0.8.0
+ */
+public class ResourceRoutingTable {
+
+    // Buckets keyed by the names of the HTTP annotations of the resources, since any method name can be used in a
+    // resource annotation. The table is not modified once it is built.
+    private final Map<String, RouteTrieNode> methodBuckets = new HashMap<>();
+
+    public ResourceRoutingTable(Resource[] resources) {
+        String httpAnnotationPrefix = Constants.PROTOCOL_HTTP + ":";
+        for (int i = 0; i < resources.length; i++) {
+            Route route = new Route(resources[i], i);
+            Set<String> methods = new HashSet<>();
+            for (Annotation annotation : resources[i].getAnnotations()) {
+                if (!annotation.getName().startsWith(httpAnnotationPrefix)) {
+                    continue;
+                }
+                String method = annotation.getName().substring(httpAnnotationPrefix.length());
+                if (methods.add(method)) {
+                    methodBuckets.computeIfAbsent(method, key -> new RouteTrieNode()).add(route.literalPrefix, route);
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the first resource which accepts the given method and matches the given request path.
+     *
+     * @param method    HTTP method of the request
+     * @param path      request sub path including the query string
+     * @param variables map to be populated with the path parameters of the matched resource
+     * @return matched resource or null if there is no matching resource
+     * @throws URITemplateException if the URI template of a candidate resource is invalid
+     */
+    public Resource findResource(String method, String path, Map<String, String> variables)
+            throws URITemplateException {
+        RouteTrieNode bucket = methodBuckets.get(method);
+        if (bucket == null) {
+            return null;
+        }
+
+        List<Route> candidates = new ArrayList<>();
+        RouteTrieNode node = bucket;
+        candidates.addAll(node.routes);
+        for (int i = 0; i < path.length() && node.children != null; i++) {
+            node = node.children.get(path.charAt(i));
+            if (node == null) {
+                break;
+            }
+            candidates.addAll(node.routes);
+        }
+
+        if (candidates.size() > 1) {
+            candidates.sort(Comparator.comparingInt(route -> route.order));
+        }
+
+        for (Route route : candidates) {
+            if (route.isDefault) {
+                return route.resource;
+            }
+            if (route.templateException != null) {
+                throw route.templateException;
+            }
+            Map<String, String> resourceVariables = new HashMap<>();
+            if (route.template.matches(path, resourceVariables)) {
+                variables.putAll(resourceVariables);
+                return route.resource;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@code Route} holds a resource with its pre-parsed URI template.
+     */
+    private static class Route {
+
+        private final Resource resource;
+        private final int order;
+        private final boolean isDefault;
+        private URITemplate template;
+        private URITemplateException templateException;
+        private String literalPrefix = "";
+
+        Route(Resource resource, int order) {
+            this.resource = resource;
+            this.order = order;
+
+            Annotation subPathAnnotation = resource.getAnnotation(Constants.PROTOCOL_HTTP,
+                    Constants.ANNOTATION_NAME_PATH);
+            String subPath = subPathAnnotation != null ? subPathAnnotation.getValue() : Constants.DEFAULT_SUB_PATH;
+            this.isDefault = Constants.DEFAULT_SUB_PATH.equals(subPath);
+            if (isDefault) {
+                return;
+            }
+
+            try {
+                template = new URITemplate(subPath);
+                literalPrefix = template.getLiteralPrefix();
+            } catch (URITemplateException e) {
+                // Reported when a request is dispatched to this resource, as it was before routes were compiled.
+                templateException = e;
+            }
+        }
+    }
+
+    /**
+     * {@code RouteTrieNode} is a node of the literal prefix trie of a method bucket.
+     */
+    private static class RouteTrieNode {
+
+        private List<Route> routes = Collections.emptyList();
+        private Map<Character, RouteTrieNode> children;
+
+        void add(String prefix, Route route) {
+            RouteTrieNode node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                if (node.children == null) {
+                    node.children = new HashMap<>();
+                }
+                node = node.children.computeIfAbsent(prefix.charAt(i), key -> new RouteTrieNode());
+            }
+            if (node.routes.isEmpty()) {
+                node.routes = new ArrayList<>(1);
+            }
+            node.routes.add(route);
+        }
+    }
+}
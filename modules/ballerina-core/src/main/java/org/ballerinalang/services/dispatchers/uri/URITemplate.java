@@ -51,4 +51,13 @@ public class URITemplate {
         return syntaxTree.matchAll(uri, variables) == uri.length();
     }
 
+    /**
+     * Get the literal text every URI matched by this template must start with.
+     *
+     * @return literal prefix of the template, empty if the template starts with an expression
+     */
+    public String getLiteralPrefix() {
+        return syntaxTree == null ? "" : syntaxTree.getLiteralPrefix();
+    }
+
 }
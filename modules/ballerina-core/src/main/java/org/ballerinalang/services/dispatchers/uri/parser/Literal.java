@@ -73,6 +73,12 @@ public class Literal extends Node {
         }
     }
 
+    @Override
+    public String getLiteralPrefix() {
+        // A trailing '*' matches any remaining content
+        return token.endsWith("*") ? token.substring(0, tokenLength - 1) : token;
+    }
+
     @Override
     String getToken() {
         return token;
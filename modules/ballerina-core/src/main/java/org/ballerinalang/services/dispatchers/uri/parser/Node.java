@@ -68,6 +68,15 @@ public abstract class Node {
         }
     }
 
+    /**
+     * Get the literal text every URI matched by this node and its successors must start with.
+     *
+     * @return literal prefix, empty if the node starts with an expression
+     */
+    public String getLiteralPrefix() {
+        return "";
+    }
+
     abstract String expand(Map<String,String> variables);
     abstract int match(String uriFragment, Map<String,String> variables);
     abstract String getToken();
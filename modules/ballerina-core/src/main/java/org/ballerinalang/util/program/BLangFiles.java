@@ -20,12 +20,14 @@ package org.ballerinalang.util.program;
 import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.ballerinalang.model.BLangPackage;
 import org.ballerinalang.model.BallerinaFile;
 import org.ballerinalang.model.builder.BLangModelBuilder;
 import org.ballerinalang.util.exceptions.ParserException;
 import org.ballerinalang.util.parser.BallerinaLexer;
 import org.ballerinalang.util.parser.BallerinaParser;
+import org.ballerinalang.util.parser.BallerinaParser.CompilationUnitContext;
 import org.ballerinalang.util.parser.BallerinaParserErrorStrategy;
 import org.ballerinalang.util.parser.antlr4.BLangAntlr4Listener;
 
@@ -35,7 +37,12 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 
 /**
+ * This class contains a set of static methods to load Ballerina source files.
+ * <p>
+ * Loading a file is done in two steps. The file is first parsed into a parse tree, which does not depend on any other
+ * file, and can therefore be done for several files at once. The model of the file is then built from the parse tree.
  *
+ * @since 0.8.0
  */
 public class BLangFiles {
 
@@ -43,14 +50,24 @@ public class BLangFiles {
                                          Path packagePath,
                                          InputStream inputStream,
                                          BLangPackage.PackageBuilder packageBuilder) {
+        CompilationUnitContext compilationUnit = parseFile(sourceFileName, packagePath, inputStream);
+        return buildFile(sourceFileName, packagePath, compilationUnit, packageBuilder);
+    }
 
-        Path sourceFilePath;
-        if (packagePath == null || packagePath.toString().equals(".")) {
-            sourceFilePath = Paths.get(sourceFileName);
-        } else {
-            sourceFilePath = packagePath.resolve(sourceFileName);
-        }
-
+    /**
+     * Parse a source file into a parse tree.
+     * <p>
+     * This does not touch any shared state, and is safe to be called for several files concurrently.
+     *
+     * @param sourceFileName name of the source file
+     * @param packagePath    path of the package which contains the file
+     * @param inputStream    content of the source file
+     * @return parse tree of the source file
+     */
+    public static CompilationUnitContext parseFile(String sourceFileName,
+                                                   Path packagePath,
+                                                   InputStream inputStream) {
+        Path sourceFilePath = getSourceFilePath(sourceFileName, packagePath);
         try {
             ANTLRInputStream antlrInputStream = new ANTLRInputStream(inputStream);
 
@@ -63,12 +80,7 @@ public class BLangFiles {
 
             BallerinaParser ballerinaParser = new BallerinaParser(ballerinaToken);
             ballerinaParser.setErrorHandler(new BallerinaParserErrorStrategy());
-
-            BLangModelBuilder bLangModelBuilder = new BLangModelBuilder(packageBuilder, sourceFileName);
-            BLangAntlr4Listener antlr4Listener = new BLangAntlr4Listener(bLangModelBuilder, sourceFilePath);
-            ballerinaParser.addParseListener(antlr4Listener);
-            ballerinaParser.compilationUnit();
-            return bLangModelBuilder.build();
+            return ballerinaParser.compilationUnit();
 
         } catch (IOException e) {
             throw new IllegalStateException("error in reading source file '" +
@@ -78,4 +90,34 @@ public class BLangFiles {
             throw new ParserException(e.getMessage(), e);
         }
     }
+
+    /**
+     * Build the model of a source file from its parse tree.
+     * <p>
+     * The symbols of the file are defined in the package being built. Files of a package should therefore be built
+     * one at a time, in the same order every time.
+     *
+     * @param sourceFileName  name of the source file
+     * @param packagePath     path of the package which contains the file
+     * @param compilationUnit parse tree of the source file
+     * @param packageBuilder  builder of the package which contains the file
+     * @return model of the source file
+     */
+    public static BallerinaFile buildFile(String sourceFileName,
+                                          Path packagePath,
+                                          CompilationUnitContext compilationUnit,
+                                          BLangPackage.PackageBuilder packageBuilder) {
+        Path sourceFilePath = getSourceFilePath(sourceFileName, packagePath);
+        BLangModelBuilder bLangModelBuilder = new BLangModelBuilder(packageBuilder, sourceFileName);
+        BLangAntlr4Listener antlr4Listener = new BLangAntlr4Listener(bLangModelBuilder, sourceFilePath);
+        ParseTreeWalker.DEFAULT.walk(antlr4Listener, compilationUnit);
+        return bLangModelBuilder.build();
+    }
+
+    private static Path getSourceFilePath(String sourceFileName, Path packagePath) {
+        if (packagePath == null || packagePath.toString().equals(".")) {
+            return Paths.get(sourceFileName);
+        }
+        return packagePath.resolve(sourceFileName);
+    }
 }
@@ -25,14 +25,22 @@ import org.ballerinalang.model.ImportPackage;
 import org.ballerinalang.model.SymbolName;
 import org.ballerinalang.natives.NativePackageProxy;
 import org.ballerinalang.util.exceptions.BallerinaException;
+import org.ballerinalang.util.parser.BallerinaParser.CompilationUnitContext;
 import org.ballerinalang.util.repository.PackageRepository;
 
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * This class contains a set of static methods to operate on {@code BLangPackage} objects. This class contains methods
@@ -105,13 +113,7 @@ public class BLangPackages {
                                                     BLangProgram bLangProgram,
                                                     LinkedHashSet<SymbolName> currentDepPath) {
 
-        Path packagePath = pkgSource.getPackagePath();
-        String pkgPathStr = getPackagePathFromPath(packagePath);
-        packageBuilder.setBallerinaFileList(pkgSource.getSourceFileStreamMap().entrySet()
-                .stream()
-                .map(entry -> BLangFiles.loadFile(entry.getKey(), packagePath, entry.getValue(), packageBuilder))
-                .peek(bFile -> validatePackagePathInFile(pkgPathStr, packagePath, bFile))
-                .collect(Collectors.toList()));
+        packageBuilder.setBallerinaFileList(loadFiles(pkgSource, packageBuilder));
 
         BLangPackage bLangPackage = packageBuilder.build();
         // Check for a dependency cycle
@@ -128,6 +130,72 @@ public class BLangPackages {
         return result;
     }
 
+    /**
+     * Load the source files of a package.
+     * <p>
+     * The files are parsed concurrently on the common fork-join pool. Their models are then built one after the other,
+     * in the order of the package source, so that symbols are defined and errors are reported the same way as when
+     * the files are loaded sequentially.
+     *
+     * @param pkgSource      source of the package
+     * @param packageBuilder builder of the package
+     * @return models of the source files
+     */
+    private static List<BallerinaFile> loadFiles(PackageRepository.PackageSource pkgSource,
+                                                 BLangPackage.PackageBuilder packageBuilder) {
+        Path packagePath = pkgSource.getPackagePath();
+        String pkgPathStr = getPackagePathFromPath(packagePath);
+        Map<String, InputStream> sourceFileStreamMap = pkgSource.getSourceFileStreamMap();
+        List<BallerinaFile> bFiles = new ArrayList<>(sourceFileStreamMap.size());
+
+        if (sourceFileStreamMap.size() == 1) {
+            Map.Entry<String, InputStream> entry = sourceFileStreamMap.entrySet().iterator().next();
+            BallerinaFile bFile = BLangFiles.loadFile(entry.getKey(), packagePath, entry.getValue(), packageBuilder);
+            validatePackagePathInFile(pkgPathStr, packagePath, bFile);
+            bFiles.add(bFile);
+            return bFiles;
+        }
+
+        Map<String, CompletableFuture<CompilationUnitContext>> parseTasks = new LinkedHashMap<>();
+        for (Map.Entry<String, InputStream> entry : sourceFileStreamMap.entrySet()) {
+            parseTasks.put(entry.getKey(), CompletableFuture.supplyAsync(
+                    () -> BLangFiles.parseFile(entry.getKey(), packagePath, entry.getValue()),
+                    ForkJoinPool.commonPool()));
+        }
+
+        try {
+            for (Map.Entry<String, CompletableFuture<CompilationUnitContext>> parseTask : parseTasks.entrySet()) {
+                CompilationUnitContext compilationUnit = getParseResult(parseTask.getValue());
+                BallerinaFile bFile = BLangFiles.buildFile(parseTask.getKey(), packagePath, compilationUnit,
+                        packageBuilder);
+                validatePackagePathInFile(pkgPathStr, packagePath, bFile);
+                bFiles.add(bFile);
+            }
+        } finally {
+            // Files after a failed one are not needed
+            parseTasks.values().forEach(parseTask -> parseTask.cancel(false));
+        }
+        return bFiles;
+    }
+
+    private static CompilationUnitContext getParseResult(CompletableFuture<CompilationUnitContext> parseTask) {
+        try {
+            return parseTask.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BallerinaException("interrupted while parsing source files", e);
+        } catch (ExecutionException e) {
+            // Rethrow the error of the parser as it is, so that it reads the same as a sequential parse
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new BallerinaException(cause.getMessage(), cause);
+        }
+    }
+
     private static void validatePackagePathInFile(String pkgPathStr, Path packagePath, BallerinaFile bFile) {
         if (!pkgPathStr.equals(bFile.getPackagePath())) {
             String actualPkgPath = (bFile.getPackagePath() != null) ? bFile.getPackagePath() : "";
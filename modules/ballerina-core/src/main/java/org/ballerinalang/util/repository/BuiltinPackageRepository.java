@@ -21,28 +21,41 @@ import org.ballerinalang.util.exceptions.BallerinaException;
 
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URL;
+import java.net.URLConnection;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 /**
  * Represents a repository contains built in ballerina packages.
+ * <p>
+ * The source files of each package are looked up in the package index generated along with the built-in packages.
+ * The index is read once by the repository of each package provider, from the jar or the directory the provider is
+ * loaded from. Providers built without an index, and packages missing from the index, are searched for their files
+ * every time the package is loaded.
  *
  * @since 0.8.0
  */
 public class BuiltinPackageRepository extends PackageRepository {
 
+    public static final String PACKAGE_INDEX_FILE = "packages.index";
+
     private Class<?> nativePackageProvider;
     private static final String BASE_DIR = "META-INF" + File.separator + "natives" + File.separator;
+    // Index entry path inside the provider jar or directory, which always uses '/' as the separator
+    private static final String PACKAGE_INDEX_PATH = "META-INF/natives/" + PACKAGE_INDEX_FILE;
     private static final String BAL_FILE_EXT = ".bal";
     private static final String NATIVE_BAL_FILE = "natives.bal";
     private static final String FALSE = "false";
@@ -50,6 +63,9 @@ public class BuiltinPackageRepository extends PackageRepository {
 
     private String packageDirPath;
 
+    // Source file names of each package, read from the index of the provider on first use
+    private Map<String, List<String>> packageIndex;
+
     public BuiltinPackageRepository(Class providerClass) {
         this.nativePackageProvider = providerClass;
     }
@@ -87,6 +103,18 @@ public class BuiltinPackageRepository extends PackageRepository {
      */
     private List<String> getFileNames(ClassLoader classLoader) {
         URL repoUrl = nativePackageProvider.getProtectionDomain().getCodeSource().getLocation();
+        List<String> indexedFileNames = getPackageIndex(repoUrl).get(packageDirPath);
+        if (indexedFileNames != null) {
+            List<String> fileNames = new ArrayList<>();
+            for (String fileName : indexedFileNames) {
+                if (skipNatives && fileName.endsWith(NATIVE_BAL_FILE)) {
+                    continue;
+                }
+                fileNames.add(fileName);
+            }
+            return fileNames;
+        }
+
         String pkgRelPath = BASE_DIR + packageDirPath;
         if (isJar(repoUrl)) {
             return getPackageNamesFromJar(repoUrl, pkgRelPath);
@@ -95,6 +123,46 @@ public class BuiltinPackageRepository extends PackageRepository {
         }
     }
 
+    private synchronized Map<String, List<String>> getPackageIndex(URL repoUrl) {
+        if (packageIndex == null) {
+            packageIndex = readPackageIndex(repoUrl);
+        }
+        return packageIndex;
+    }
+
+    /**
+     * Read the package index of the package provider. The index is read from the jar or the directory which the
+     * provider is loaded from, since the class loader would return the first index on the class path.
+     *
+     * @param repoUrl URL of the repo source (url of the jar or the directory)
+     * @return Source file names of each package, keyed by the package directory. Empty if there is no index.
+     */
+    private Map<String, List<String>> readPackageIndex(URL repoUrl) {
+        Map<String, List<String>> index = new HashMap<>();
+        try {
+            URL indexUrl = isJar(repoUrl) ? new URL("jar:" + repoUrl.toExternalForm() + "!/" + PACKAGE_INDEX_PATH)
+                    : new URL(repoUrl, PACKAGE_INDEX_PATH);
+            URLConnection connection = indexUrl.openConnection();
+            // Do not keep the provider jar open through the shared jar file cache
+            connection.setUseCaches(false);
+
+            Properties indexProps = new Properties();
+            try (InputStream indexStream = connection.getInputStream()) {
+                indexProps.load(indexStream);
+            }
+            for (String pkgDir : indexProps.stringPropertyNames()) {
+                index.put(Paths.get(pkgDir).toString(), Arrays.asList(indexProps.getProperty(pkgDir)
+                        .split(",")));
+            }
+        } catch (FileNotFoundException e) {
+            // Provider built without an index
+            return index;
+        } catch (IOException e) {
+            throw new BallerinaException("error while reading built-in package index: " + e.getMessage());
+        }
+        return index;
+    }
+
     /**
      * Get package names from the class path.
      *
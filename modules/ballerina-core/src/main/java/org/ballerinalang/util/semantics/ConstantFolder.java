@@ -0,0 +1,165 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.util.semantics;
+
+import org.ballerinalang.model.ConstDef;
+import org.ballerinalang.model.SymbolScope;
+import org.ballerinalang.model.VariableDef;
+import org.ballerinalang.model.expressions.BasicLiteral;
+import org.ballerinalang.model.expressions.BinaryExpression;
+import org.ballerinalang.model.expressions.Expression;
+import org.ballerinalang.model.expressions.TypeCastExpression;
+import org.ballerinalang.model.expressions.UnaryExpression;
+import org.ballerinalang.model.expressions.VariableRefExpr;
+import org.ballerinalang.model.statements.BlockStmt;
+import org.ballerinalang.model.statements.IfElseStmt;
+import org.ballerinalang.model.statements.Statement;
+import org.ballerinalang.model.statements.WhileStmt;
+import org.ballerinalang.model.types.BType;
+import org.ballerinalang.model.types.BTypes;
+import org.ballerinalang.model.types.SimpleTypeName;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BValueType;
+
+/**
+ * {@code ConstantFolder} evaluates constant expressions and conditions of a Ballerina program at compile time.
+ * <p>
+ * Unary, binary and type cast expressions whose operands are literals or constants are replaced with a
+ * {@link BasicLiteral} holding the value their evaluation function returns, and if-else and while statements with
+ * constant conditions are replaced with the statements which can run. Expressions are folded by the
+ * {@link SemanticAnalyzer} once they have been analyzed, so that operands are folded before the expressions using
+ * them, and the execution flow is built from the folded program.
+ *
+ * @since 0.8.0
+ */
+public class ConstantFolder {
+
+    private ConstantFolder() {
+    }
+
+    /**
+     * Fold an analyzed expression, if all its operands are constant.
+     * <p>
+     * Expressions which fail to evaluate, such as an integer division by zero, are not folded, so that they fail
+     * when they are executed.
+     *
+     * @param expr analyzed expression
+     * @return a literal holding the value of the expression, or the expression itself if it is not constant
+     */
+    public static Expression fold(Expression expr) {
+        BType type = expr.getType();
+        if (!BTypes.isValueType(type)) {
+            return expr;
+        }
+
+        BValueType value = null;
+        try {
+            if (expr instanceof BinaryExpression) {
+                BinaryExpression binaryExpr = (BinaryExpression) expr;
+                BValueType lValue = getConstantValue(binaryExpr.getLExpr());
+                BValueType rValue = getConstantValue(binaryExpr.getRExpr());
+                if (lValue != null && rValue != null && binaryExpr.getEvalFunc() != null) {
+                    value = binaryExpr.getEvalFunc().apply(lValue, rValue);
+                }
+
+            } else if (expr instanceof UnaryExpression) {
+                UnaryExpression unaryExpr = (UnaryExpression) expr;
+                BValueType rValue = getConstantValue(unaryExpr.getRExpr());
+                if (rValue != null && unaryExpr.getEvalFunc() != null) {
+                    value = unaryExpr.getEvalFunc().apply(null, rValue);
+                }
+
+            } else if (expr instanceof TypeCastExpression) {
+                TypeCastExpression typeCastExpr = (TypeCastExpression) expr;
+                BValueType rValue = getConstantValue(typeCastExpr.getRExpr());
+                if (rValue != null && typeCastExpr.getEvalFunc() != null) {
+                    value = typeCastExpr.getEvalFunc().apply(rValue);
+                }
+            }
+        } catch (RuntimeException e) {
+            return expr;
+        }
+
+        if (value == null) {
+            return expr;
+        }
+
+        BasicLiteral basicLiteral = new BasicLiteral(expr.getNodeLocation(), new SimpleTypeName(type.getName()), value);
+        basicLiteral.setType(type);
+        return basicLiteral;
+    }
+
+    /**
+     * Get the statement to run in place of an analyzed if-else or while statement, if its conditions are constant.
+     *
+     * @param stmt  analyzed statement
+     * @param scope scope enclosing the statement
+     * @return the statement to run in place of the given statement, or the statement itself if it depends on
+     * conditions known only at runtime
+     */
+    public static Statement reduce(Statement stmt, SymbolScope scope) {
+        if (stmt instanceof IfElseStmt) {
+            IfElseStmt ifElseStmt = (IfElseStmt) stmt;
+            BValueType condition = getConditionValue(ifElseStmt.getCondition());
+            if (condition == null) {
+                return stmt;
+            } else if (condition.booleanValue()) {
+                return ifElseStmt.getThenBody();
+            }
+
+            for (IfElseStmt.ElseIfBlock elseIfBlock : ifElseStmt.getElseIfBlocks()) {
+                condition = getConditionValue(elseIfBlock.getElseIfCondition());
+                if (condition == null) {
+                    return stmt;
+                } else if (condition.booleanValue()) {
+                    return elseIfBlock.getElseIfBody();
+                }
+            }
+
+            Statement elseBody = ifElseStmt.getElseBody();
+            return elseBody != null ? elseBody : new BlockStmt.BlockStmtBuilder(stmt.getNodeLocation(), scope).build();
+
+        } else if (stmt instanceof WhileStmt) {
+            BValueType condition = getConditionValue(((WhileStmt) stmt).getCondition());
+            if (condition != null && !condition.booleanValue()) {
+                return new BlockStmt.BlockStmtBuilder(stmt.getNodeLocation(), scope).build();
+            }
+        }
+
+        return stmt;
+    }
+
+    private static BValueType getConditionValue(Expression condition) {
+        // Conditions are not folded in place, as the statements holding them cannot be modified
+        return getConstantValue(fold(condition));
+    }
+
+    private static BValueType getConstantValue(Expression expr) {
+        BValue value = null;
+        if (expr instanceof BasicLiteral) {
+            value = ((BasicLiteral) expr).getBValue();
+        } else if (expr instanceof VariableRefExpr) {
+            VariableDef variableDef = ((VariableRefExpr) expr).getVariableDef();
+            if (variableDef instanceof ConstDef) {
+                value = ((ConstDef) variableDef).getValue();
+            }
+        }
+
+        return value instanceof BValueType ? (BValueType) value : null;
+    }
+}
@@ -645,6 +645,8 @@ public class SemanticAnalyzer implements NodeVisitor {
                         rExpr.getType(), varBType);
             }
         }
+
+        varDefStmt.setRExpr(ConstantFolder.fold(varDefStmt.getRExpr()));
     }
 
     @Override
@@ -698,6 +700,8 @@ public class SemanticAnalyzer implements NodeVisitor {
                         rExpr.getType(), lExpr.getType());
             }
         }
+
+        assignStmt.setRExpr(ConstantFolder.fold(assignStmt.getRExpr()));
     }
 
     @Override
@@ -715,6 +719,11 @@ public class SemanticAnalyzer implements NodeVisitor {
                 checkUnreachableStmt(blockStmt.getStatements(), ++stmtIndex);
             }
             stmt.accept(this);
+
+            if (stmt instanceof IfElseStmt || stmt instanceof WhileStmt) {
+                // Replace branches and loops with constant conditions with the statements which can run
+                blockStmt.getStatements()[stmtIndex] = ConstantFolder.reduce(stmt, blockStmt);
+            }
         }
 
         closeScope();
@@ -982,6 +991,7 @@ public class SemanticAnalyzer implements NodeVisitor {
             Expression returnArgExpr = returnArgExprs[i];
             returnArgExpr.accept(this);
             typesOfReturnExprs[i] = returnArgExpr.getType();
+            returnArgExprs[i] = ConstantFolder.fold(returnArgExpr);
         }
 
         // Now check whether this return contains a function invocation expression which returns multiple values
@@ -1064,8 +1074,9 @@ public class SemanticAnalyzer implements NodeVisitor {
     @Override
     public void visit(FunctionInvocationExpr funcIExpr) {
         Expression[] exprs = funcIExpr.getArgExprs();
-        for (Expression expr : exprs) {
-            visitSingleValueExpr(expr);
+        for (int i = 0; i < exprs.length; i++) {
+            visitSingleValueExpr(exprs[i]);
+            exprs[i] = ConstantFolder.fold(exprs[i]);
         }
 
         linkFunction(funcIExpr);
@@ -1079,8 +1090,9 @@ public class SemanticAnalyzer implements NodeVisitor {
     @Override
     public void visit(ActionInvocationExpr actionIExpr) {
         Expression[] exprs = actionIExpr.getArgExprs();
-        for (Expression expr : exprs) {
-            visitSingleValueExpr(expr);
+        for (int i = 0; i < exprs.length; i++) {
+            visitSingleValueExpr(exprs[i]);
+            exprs[i] = ConstantFolder.fold(exprs[i]);
         }
 
         linkAction(actionIExpr);
@@ -1141,6 +1153,7 @@ public class SemanticAnalyzer implements NodeVisitor {
     @Override
     public void visit(UnaryExpression unaryExpr) {
         visitSingleValueExpr(unaryExpr.getRExpr());
+        unaryExpr.setRExpr(ConstantFolder.fold(unaryExpr.getRExpr()));
         unaryExpr.setType(unaryExpr.getRExpr().getType());
 
         if (Operator.SUB.equals(unaryExpr.getOperator())) {
@@ -1642,6 +1655,7 @@ public class SemanticAnalyzer implements NodeVisitor {
     public void visit(TypeCastExpression typeCastExpression) {
         // Evaluate the expression and set the type
         visitSingleValueExpr(typeCastExpression.getRExpr());
+        typeCastExpression.setRExpr(ConstantFolder.fold(typeCastExpression.getRExpr()));
         BType sourceType = typeCastExpression.getRExpr().getType();
         BType targetType = typeCastExpression.getTargetType();
         if (targetType == null) {
@@ -1745,6 +1759,8 @@ public class SemanticAnalyzer implements NodeVisitor {
     private void visitBinaryExpr(BinaryExpression expr) {
         visitSingleValueExpr(expr.getLExpr());
         visitSingleValueExpr(expr.getRExpr());
+        expr.setLExpr(ConstantFolder.fold(expr.getLExpr()));
+        expr.setRExpr(ConstantFolder.fold(expr.getRExpr()));
     }
 
     private void visitSingleValueExpr(Expression expr) {
@@ -1798,7 +1814,7 @@ public class SemanticAnalyzer implements NodeVisitor {
                     newExpr = new TypeCastExpression(rExpr.getNodeLocation(), rExpr, lType);
                     newExpr.setEvalFunc(newEdge.getTypeMapperFunction());
                     newExpr.accept(this);
-                    binaryExpr.setRExpr(newExpr);
+                    binaryExpr.setRExpr(ConstantFolder.fold(newExpr));
                     return lType;
                 } else {
                     newEdge = TypeLattice.getImplicitCastLattice().getEdgeFromTypes(lType, rType, null);
@@ -1806,7 +1822,7 @@ public class SemanticAnalyzer implements NodeVisitor {
                         newExpr = new TypeCastExpression(lExpr.getNodeLocation(), lExpr, rType);
                         newExpr.setEvalFunc(newEdge.getTypeMapperFunction());
                         newExpr.accept(this);
-                        binaryExpr.setLExpr(newExpr);
+                        binaryExpr.setLExpr(ConstantFolder.fold(newExpr));
                         return rType;
                     }
                 }
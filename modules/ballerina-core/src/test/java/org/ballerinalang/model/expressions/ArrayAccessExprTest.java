@@ -20,6 +20,7 @@ package org.ballerinalang.model.expressions;
 import org.ballerinalang.core.utils.BTestUtils;
 import org.ballerinalang.model.BLangProgram;
 import org.ballerinalang.model.values.BArray;
+import org.ballerinalang.model.values.BIntArray;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.util.exceptions.BallerinaException;
@@ -62,7 +63,7 @@ public class ArrayAccessExprTest {
         BValue[] returns = BLangFunctions.invoke(bLangProgram, "arrayReturnTest", args);
 
         Assert.assertEquals(returns.length, 1);
-        Assert.assertSame(returns[0].getClass(), BArray.class);
+        Assert.assertSame(returns[0].getClass(), BIntArray.class);
 
         BArray<BInteger> arrayValue = (BArray<BInteger>) returns[0];
         Assert.assertEquals(arrayValue.size(), 106);
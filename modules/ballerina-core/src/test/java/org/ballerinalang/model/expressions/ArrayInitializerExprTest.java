@@ -22,6 +22,7 @@ import org.ballerinalang.model.BLangProgram;
 import org.ballerinalang.model.values.BArray;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BStringArray;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.util.exceptions.SemanticException;
 import org.ballerinalang.util.program.BLangFunctions;
@@ -62,7 +63,7 @@ public class ArrayInitializerExprTest {
         BValue[] returns = BLangFunctions.invoke(bLangProgram, "arrayReturnTest", args);
 
         Assert.assertEquals(returns.length, 1);
-        Assert.assertSame(returns[0].getClass(), BArray.class);
+        Assert.assertSame(returns[0].getClass(), BStringArray.class);
 
         BArray<BString> arrayValue = (BArray<BString>) returns[0];
         Assert.assertEquals(arrayValue.size(), 6);
@@ -0,0 +1,124 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*  http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.model.expressions;
+
+import org.ballerinalang.core.utils.BTestUtils;
+import org.ballerinalang.model.BLangPackage;
+import org.ballerinalang.model.BLangProgram;
+import org.ballerinalang.model.BallerinaFunction;
+import org.ballerinalang.model.Function;
+import org.ballerinalang.model.statements.BlockStmt;
+import org.ballerinalang.model.statements.IfElseStmt;
+import org.ballerinalang.model.statements.ReturnStmt;
+import org.ballerinalang.model.statements.Statement;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.exceptions.BallerinaException;
+import org.ballerinalang.util.program.BLangFunctions;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Test folding of constant expressions and removal of branches with constant conditions.
+ */
+public class ConstantFoldingTest {
+
+    private BLangProgram bLangProgram;
+
+    @BeforeClass
+    public void setup() {
+        bLangProgram = BTestUtils.parseBalFile("lang/expressions/constant-folding.bal");
+    }
+
+    @Test(description = "Test folding arithmetic expressions on constants and literals")
+    public void testFoldArithmetic() {
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "foldArithmetic");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 30065);
+
+        Statement[] stmts = getFunctionBody("foldArithmetic").getStatements();
+        Assert.assertTrue(((ReturnStmt) stmts[0]).getExprs()[0] instanceof BasicLiteral);
+    }
+
+    @Test(description = "Test folding string concatenations of constants and literals")
+    public void testFoldStringConcat() {
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "foldStringConcat");
+        Assert.assertEquals(((BString) returns[0]).stringValue(), "http://localhost:9090/echo");
+    }
+
+    @Test(description = "Test folding implicit type casts of literals")
+    public void testFoldImplicitCast() {
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "foldImplicitCast");
+        Assert.assertEquals(((BFloat) returns[0]).floatValue(), 3.5f);
+    }
+
+    @Test(description = "Test folding the constant operand of an expression")
+    public void testFoldPartially() {
+        BValue[] args = {new BInteger(4)};
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "foldPartially", args);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 64);
+
+        Statement[] stmts = getFunctionBody("foldPartially").getStatements();
+        AddExpression addExpr = (AddExpression) ((ReturnStmt) stmts[0]).getExprs()[0];
+        Assert.assertTrue(addExpr.getRExpr() instanceof BasicLiteral);
+    }
+
+    @Test(description = "Test removing branches and loops with constant conditions")
+    public void testRemoveConstantBranches() {
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "removeConstantBranches");
+        Assert.assertEquals(((BString) returns[0]).stringValue(), "timeout");
+
+        Statement[] stmts = getFunctionBody("removeConstantBranches").getStatements();
+        Assert.assertTrue(stmts[1] instanceof BlockStmt);
+        Assert.assertTrue(stmts[2] instanceof BlockStmt);
+        Assert.assertEquals(((BlockStmt) stmts[2]).getStatements().length, 0);
+    }
+
+    @Test(description = "Test keeping branches with conditions known only at runtime")
+    public void testKeepRuntimeBranches() {
+        BValue[] args = {new BInteger(40)};
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "keepRuntimeBranches", args);
+        Assert.assertEquals(((BString) returns[0]).stringValue(), "greater");
+
+        args = new BValue[]{new BInteger(20)};
+        returns = BLangFunctions.invoke(bLangProgram, "keepRuntimeBranches", args);
+        Assert.assertEquals(((BString) returns[0]).stringValue(), "smaller");
+
+        Statement[] stmts = getFunctionBody("keepRuntimeBranches").getStatements();
+        Assert.assertTrue(stmts[1] instanceof IfElseStmt);
+    }
+
+    @Test(description = "Test division of a constant by zero failing at runtime",
+            expectedExceptions = BallerinaException.class)
+    public void testDivideByZero() {
+        BLangFunctions.invoke(bLangProgram, "divideByZero");
+    }
+
+    private BlockStmt getFunctionBody(String functionName) {
+        for (BLangPackage bLangPackage : bLangProgram.getLibraryPackages()) {
+            for (Function function : bLangPackage.getFunctions()) {
+                if (function.getName().equals(functionName)) {
+                    return ((BallerinaFunction) function).getCallableUnitBody();
+                }
+            }
+        }
+        throw new IllegalArgumentException("function '" + functionName + "' not found");
+    }
+}
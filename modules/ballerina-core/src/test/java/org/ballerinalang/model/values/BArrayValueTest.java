@@ -55,7 +55,7 @@ public class BArrayValueTest {
         BValue[] returns = BLangFunctions.invoke(bLangProgram, "lazyInitSizeZero", args);
 
         Assert.assertEquals(returns.length, 1);
-        Assert.assertSame(returns[0].getClass(), BArray.class);
+        Assert.assertSame(returns[0].getClass(), BStringArray.class);
 
         BArray<BString> arrayValue = (BArray<BString>) returns[0];
         Assert.assertEquals(arrayValue.size(), 0);
@@ -66,7 +66,7 @@ public class BArrayValueTest {
         BValue[] returns = BLangFunctions.invoke(bLangProgram, "addValueToIntArray");
 
         Assert.assertEquals(returns.length, 1);
-        Assert.assertSame(returns[0].getClass(), BArray.class);
+        Assert.assertSame(returns[0].getClass(), BIntArray.class);
 
         BArray<BInteger> arrayValue = (BArray<BInteger>) returns[0];
         Assert.assertEquals(arrayValue.size(), 200, "Invalid arrays size.");
@@ -96,7 +96,7 @@ public class BArrayValueTest {
         BValue[] returns = BLangFunctions.invoke(bLangProgram, "addValueToFloatArray");
 
         Assert.assertEquals(returns.length, 1);
-        Assert.assertSame(returns[0].getClass(), BArray.class);
+        Assert.assertSame(returns[0].getClass(), BFloatArray.class);
 
         BArray<BFloat> arrayValue = (BArray<BFloat>) returns[0];
         Assert.assertEquals(arrayValue.size(), 200, "Invalid arrays size.");
@@ -119,4 +119,69 @@ public class BArrayValueTest {
         Assert.assertEquals(arrayValue.get(199).floatValue(), new Float(6.9), "Invalid value returned.");
 
     }
+
+    @Test(description = "Test creating arrays with the specialized representation")
+    public void testSpecializedArrayCreation() {
+        Assert.assertTrue(BArray.newArray(BInteger.class) instanceof BIntArray);
+        Assert.assertTrue(BArray.newArray(BLong.class) instanceof BLongArray);
+        Assert.assertTrue(BArray.newArray(BFloat.class) instanceof BFloatArray);
+        Assert.assertTrue(BArray.newArray(BDouble.class) instanceof BDoubleArray);
+        Assert.assertTrue(BArray.newArray(BBoolean.class) instanceof BBooleanArray);
+        Assert.assertTrue(BArray.newArray(BString.class) instanceof BStringArray);
+        Assert.assertEquals(BArray.newArray(BJSON.class).getClass(), BArray.class);
+    }
+
+    @Test(description = "Test primitive access to int arrays")
+    public void testIntArray() {
+        BIntArray array = new BIntArray();
+        for (int i = 0; i < 1000; i++) {
+            array.add(i, i * 2);
+        }
+        array.add(1000, new BInteger(7));
+        Assert.assertEquals(array.size(), 1001);
+        Assert.assertEquals(array.getInt(500), 1000);
+        Assert.assertEquals(array.get(1000), new BInteger(7));
+
+        BIntArray range = array.copyOfRange(10, 20);
+        Assert.assertEquals(range.size(), 10);
+        Assert.assertEquals(range.getInt(0), 20);
+    }
+
+    @Test(description = "Test sorting a copy of a string array")
+    public void testStringArraySort() {
+        BArray<BString> array = new BArray<>(BString.class);
+        array.add(0, new BString("pear"));
+        array.add(1, new BString("apple"));
+        array.add(2, new BString("mango"));
+
+        BStringArray sorted = (BStringArray) array.copyOfRange(0, array.size());
+        sorted.sort();
+        Assert.assertEquals(sorted.getString(0), "apple");
+        Assert.assertEquals(sorted.get(2), new BString("pear"));
+
+        sorted.add(5, new BString("kiwi"));
+        Assert.assertNull(sorted.get(4));
+    }
+
+    @Test(description = "Test reading the stored values of a string array")
+    public void testStringArrayGet() {
+        BStringArray array = new BStringArray();
+        BString pear = new BString("pear");
+        array.add(0, pear);
+        array.add(1, "apple");
+        array.add(2, new BInteger(7));
+
+        Assert.assertSame(array.get(0), pear);
+        Assert.assertSame(array.get(1), array.get(1));
+        Assert.assertEquals(array.getString(1), "apple");
+        Assert.assertEquals(array.get(2), new BString("7"));
+        Assert.assertSame(array.copyOfRange(0, 1).get(0), pear);
+    }
+
+    @Test(description = "Test out of range access on double arrays", expectedExceptions = {BallerinaException.class})
+    public void testOutOfRangeAccess() {
+        BDoubleArray array = new BDoubleArray();
+        array.add(0, 1.5);
+        array.getDouble(1);
+    }
 }
@@ -0,0 +1,79 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*  http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.model.values;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.ballerinalang.model.StreamingJSONDataSource;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test reading elements of a JSON payload which has not been built.
+ */
+public class BJSONValueTest {
+
+    private static final String PAYLOAD = "{\"name\":\"Jack\",\"age\":25,\"spouse\":null,"
+            + "\"address\":{\"city\":\"Colombo\"},\"phones\":[\"011\",\"077\"],\"name\":\"John\"}";
+
+    @Test(description = "Test reading a scalar without building the JSON tree")
+    public void testReadScalar() {
+        BJSON json = createStreamingJSON(PAYLOAD);
+        Assert.assertEquals(json.readScalar(new Object[]{"phones", 1}).asText(), "077");
+        Assert.assertEquals(json.value().get("age").asInt(), 25);
+    }
+
+    @Test(description = "Test reading a null element")
+    public void testReadNull() {
+        BJSON json = createStreamingJSON(PAYLOAD);
+        JsonNode spouse = json.readScalar(new Object[]{"spouse"});
+        Assert.assertNotNull(spouse);
+        Assert.assertTrue(spouse.isNull());
+    }
+
+    @Test(description = "Test reading the last of the fields with the same name, as the JSON tree keeps")
+    public void testReadDuplicateField() {
+        BJSON json = createStreamingJSON(PAYLOAD);
+        Assert.assertEquals(json.readScalar(new Object[]{"name"}).asText(), "John");
+        Assert.assertEquals(json.value().get("name").asText(), "John");
+    }
+
+    @Test(description = "Test reading missing elements and containers")
+    public void testReadMissingAndContainer() {
+        Assert.assertNull(createStreamingJSON(PAYLOAD).readScalar(new Object[]{"address"}));
+        Assert.assertNull(createStreamingJSON(PAYLOAD).readScalar(new Object[]{"address", "street"}));
+        Assert.assertNull(createStreamingJSON(PAYLOAD).readScalar(new Object[]{"phones", 2}));
+        Assert.assertNull(createStreamingJSON(PAYLOAD).readScalar(new Object[]{"name", 0}));
+    }
+
+    @Test(description = "Test building the JSON tree for the reads after the first one")
+    public void testReadScalarOnce() {
+        BJSON json = createStreamingJSON(PAYLOAD);
+        Assert.assertEquals(json.readScalar(new Object[]{"address", "city"}).asText(), "Colombo");
+        Assert.assertNull(json.readScalar(new Object[]{"age"}));
+        Assert.assertEquals(json.value().get("address").get("city").asText(), "Colombo");
+        Assert.assertNull(json.readScalar(new Object[]{"age"}));
+    }
+
+    private static BJSON createStreamingJSON(String payload) {
+        return new BJSON(new StreamingJSONDataSource(
+                new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8))));
+    }
+}
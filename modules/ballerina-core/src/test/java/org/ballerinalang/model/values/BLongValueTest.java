@@ -120,4 +120,12 @@ public class BLongValueTest {
         BLong longValue = (BLong) returns[0];
         Assert.assertEquals(longValue.longValue(), 5L, "Invalid long value returned.");
     }
+
+    @Test(description = "Test cached long values")
+    public void testLongValueCache() {
+        Assert.assertSame(BLong.valueOf(10L), BLong.valueOf(10L));
+        Assert.assertSame(BLong.valueOf(-128L), BLong.valueOf(-128L));
+        Assert.assertEquals(BLong.valueOf(1L << 40).longValue(), 1L << 40);
+        Assert.assertEquals(BLong.valueOf(1L << 40), BLong.valueOf(1L << 40));
+    }
 }
@@ -19,10 +19,14 @@ package org.ballerinalang.model.values;
 
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
 
 /**
  * Test class for ballerina map.
@@ -71,4 +75,37 @@ public class BMapValueTest   {
         map.remove(new BString("Chanaka"));
         assertEquals(map.size(), 101);
     }
+
+    @Test
+    public void testBMapLargeSize() {
+        BMap<BString, BInteger> map = new BMap<>();
+        int size = (1 << 16) + 100;
+        for (int i = 0; i < size; i++) {
+            map.put(new BString("key" + i), new BInteger(i));
+        }
+        assertEquals(map.size(), size);
+        assertEquals(map.get(new BString("key60000")), new BInteger(60000));
+
+        for (int i = 0; i < size; i += 2) {
+            map.remove(new BString("key" + i));
+        }
+        assertEquals(map.size(), size / 2);
+        assertNull(map.get(new BString("key60000")));
+        assertEquals(map.get(new BString("key60001")), new BInteger(60001));
+    }
+
+    @Test
+    public void testBMapInsertionOrder() {
+        BMap<BString, BInteger> map = new BMap<>();
+        for (String key : Arrays.asList("c", "a", "d", "b")) {
+            map.put(new BString(key), new BInteger(0));
+        }
+        map.remove(new BString("a"));
+        map.put(new BString("c"), new BInteger(1));
+        map.put(new BString("a"), new BInteger(2));
+
+        List<String> keys = map.keySet().stream().map(BString::stringValue).collect(Collectors.toList());
+        assertEquals(keys, Arrays.asList("c", "d", "b", "a"));
+        assertEquals(map.get(new BString("c")), new BInteger(1));
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.config;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Test looking up configuration properties through the {@link ConfigRegistry}.
+ */
+public class ConfigRegistryTest {
+
+    private static final String KEY_PREFIX = "ballerina.test.config.";
+
+    private Path confFile;
+    private ConfigRegistry configRegistry;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        confFile = Files.createTempFile("ballerina", ".conf");
+        Files.write(confFile, Arrays.asList(
+                KEY_PREFIX + "string= fromConf ",
+                KEY_PREFIX + "int=42",
+                KEY_PREFIX + "notANumber=forty",
+                KEY_PREFIX + "zero=0",
+                KEY_PREFIX + "negative=-8",
+                KEY_PREFIX + "empty=",
+                KEY_PREFIX + "boolean=true"), StandardCharsets.UTF_8);
+        configRegistry = new ConfigRegistry(confFile);
+    }
+
+    @Test(description = "Test reading properties from the configuration file")
+    public void testConfFileProperty() {
+        Assert.assertEquals(configRegistry.getProperty(KEY_PREFIX + "string"), "fromConf");
+        Assert.assertEquals(configRegistry.getIntProperty(KEY_PREFIX + "int", 1), 42);
+        Assert.assertTrue(configRegistry.getBooleanProperty(KEY_PREFIX + "boolean", false));
+        Assert.assertNull(configRegistry.getProperty(KEY_PREFIX + "missing"));
+    }
+
+    @Test(description = "Test system properties overriding the configuration file")
+    public void testSystemPropertyPrecedence() {
+        System.setProperty(KEY_PREFIX + "string", "fromSystem");
+        System.setProperty(KEY_PREFIX + "int", "7");
+        System.setProperty(KEY_PREFIX + "boolean", "false");
+        try {
+            Assert.assertEquals(configRegistry.getProperty(KEY_PREFIX + "string"), "fromSystem");
+            Assert.assertEquals(configRegistry.getIntProperty(KEY_PREFIX + "int", 1), 7);
+            Assert.assertFalse(configRegistry.getBooleanProperty(KEY_PREFIX + "boolean", true));
+        } finally {
+            System.clearProperty(KEY_PREFIX + "string");
+            System.clearProperty(KEY_PREFIX + "int");
+            System.clearProperty(KEY_PREFIX + "boolean");
+        }
+        Assert.assertEquals(configRegistry.getProperty(KEY_PREFIX + "string"), "fromConf");
+    }
+
+    @Test(description = "Test using the default value for missing and invalid integer properties")
+    public void testInvalidIntProperty() {
+        Assert.assertEquals(configRegistry.getIntProperty(KEY_PREFIX + "missing", 5), 5);
+        Assert.assertEquals(configRegistry.getIntProperty(KEY_PREFIX + "notANumber", 5), 5);
+        Assert.assertEquals(configRegistry.getIntProperty(KEY_PREFIX + "zero", 5), 5);
+        Assert.assertEquals(configRegistry.getIntProperty(KEY_PREFIX + "negative", 5), 5);
+        Assert.assertEquals(configRegistry.getIntProperty(KEY_PREFIX + "empty", 5), 5);
+        Assert.assertTrue(configRegistry.getBooleanProperty(KEY_PREFIX + "empty", true));
+    }
+
+    @Test(description = "Test looking up properties without a configuration file")
+    public void testMissingConfFile() {
+        ConfigRegistry registry = new ConfigRegistry(confFile.resolveSibling(confFile.getFileName() + ".missing"));
+        Assert.assertNull(registry.getProperty(KEY_PREFIX + "string"));
+        Assert.assertEquals(registry.getIntProperty(KEY_PREFIX + "int", 3), 3);
+
+        Assert.assertNull(new ConfigRegistry(null).getProperty(KEY_PREFIX + "string"));
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(confFile);
+    }
+}
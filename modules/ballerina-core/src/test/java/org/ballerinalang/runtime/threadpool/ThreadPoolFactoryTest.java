@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.threadpool;
+
+import org.ballerinalang.natives.connectors.BallerinaConnectorManager;
+import org.ballerinalang.services.dispatchers.http.HTTPErrorHandler;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.messaging.CarbonCallback;
+import org.wso2.carbon.messaging.CarbonMessage;
+import org.wso2.carbon.messaging.Constants;
+import org.wso2.carbon.messaging.DefaultCarbonMessage;
+import org.wso2.carbon.messaging.ServerConnectorErrorHandler;
+
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test rejecting tasks once the request thread pool is saturated.
+ */
+public class ThreadPoolFactoryTest {
+
+    private static final String PROTOCOL_HTTP = "http";
+
+    private Optional<ServerConnectorErrorHandler> previousErrorHandler;
+
+    @BeforeClass
+    public void setup() {
+        BallerinaConnectorManager connectorManager = BallerinaConnectorManager.getInstance();
+        previousErrorHandler = connectorManager.getServerConnectorErrorHandler(PROTOCOL_HTTP);
+        connectorManager.registerServerConnectorErrorHandler(new HTTPErrorHandler());
+    }
+
+    @Test(description = "Test replying with a server busy error to a request rejected by a saturated pool")
+    public void testRejectedRequest() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        MeteredThreadPoolExecutor executor = createSaturatedPool(release);
+        try {
+            CarbonMessage request = new DefaultCarbonMessage();
+            request.setProperty(Constants.PROTOCOL, PROTOCOL_HTTP);
+            ResponseCallback callback = new ResponseCallback();
+            executor.execute(new RequestWorkerThread(request, callback));
+
+            Assert.assertNotNull(callback.response, "rejected request was not replied to");
+            Assert.assertEquals(callback.response.getProperty(
+                    org.wso2.carbon.transport.http.netty.common.Constants.HTTP_STATUS_CODE), 503);
+            Assert.assertEquals(executor.getRejectedTasks(), 1);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test(description = "Test running a rejected task which is not a request in the calling thread")
+    public void testRejectedResponse() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        MeteredThreadPoolExecutor executor = createSaturatedPool(release);
+        try {
+            Thread[] runner = new Thread[1];
+            executor.execute(() -> runner[0] = Thread.currentThread());
+
+            Assert.assertSame(runner[0], Thread.currentThread());
+            Assert.assertEquals(executor.getRejectedTasks(), 1);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @AfterClass
+    public void cleanup() {
+        previousErrorHandler.ifPresent(BallerinaConnectorManager.getInstance()::registerServerConnectorErrorHandler);
+    }
+
+    /**
+     * Create a pool with a single thread and a single queue slot, both of which are taken until the given latch is
+     * released.
+     */
+    private static MeteredThreadPoolExecutor createSaturatedPool(CountDownLatch release) throws InterruptedException {
+        MeteredThreadPoolExecutor executor = new MeteredThreadPoolExecutor(1, 1, 60, new ArrayBlockingQueue<>(1),
+                Thread::new, ThreadPoolFactory::rejectTask);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        executor.execute(() -> { });
+        return executor;
+    }
+
+    /**
+     * {@code ResponseCallback} keeps the response given to it.
+     */
+    private static class ResponseCallback implements CarbonCallback {
+
+        private CarbonMessage response;
+
+        @Override
+        public void done(CarbonMessage carbonMessage) {
+            response = carbonMessage;
+        }
+    }
+}
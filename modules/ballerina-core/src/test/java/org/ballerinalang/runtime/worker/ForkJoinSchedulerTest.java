@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.worker;
+
+import org.ballerinalang.model.values.BDouble;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMessage;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test executing fork/join branches on the {@link ForkJoinScheduler}.
+ */
+public class ForkJoinSchedulerTest {
+
+    private final ForkJoinScheduler scheduler = ForkJoinScheduler.getInstance();
+
+    @Test(description = "Test interrupting the running branches which lose a join any")
+    public void testInvokeAnyInterruptsLosingBranches() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Callable<BMessage> loser = () -> {
+            started.countDown();
+            try {
+                Thread.sleep(10000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return new BMessage();
+        };
+        BMessage reply = new BMessage();
+        Callable<BMessage> winner = () -> {
+            started.await();
+            return reply;
+        };
+
+        long forkCount = scheduler.getForkCount();
+        long cancelledCount = scheduler.getCancelledBranchCount();
+        ForkJoinScheduler.ForkJoinResult result = scheduler.invokeAny(Arrays.asList(loser, winner), 5000);
+
+        Assert.assertFalse(result.isTimedOut());
+        Assert.assertEquals(result.getMessages().size(), 1);
+        Assert.assertSame(result.getMessages().get(0), reply);
+        Assert.assertTrue(interrupted.await(5, TimeUnit.SECONDS), "losing branch was not interrupted");
+        Assert.assertEquals(scheduler.getForkCount() - forkCount, 1);
+        Assert.assertEquals(scheduler.getCancelledBranchCount() - cancelledCount, 1);
+    }
+
+    @Test(description = "Test a join all with a sub-second timeout")
+    public void testInvokeAllSubSecondTimeout() {
+        Assert.assertEquals(ForkJoinScheduler.toTimeoutMillis(new BFloat(0.25f)), 250);
+        Assert.assertEquals(ForkJoinScheduler.toTimeoutMillis(new BDouble(0.5)), 500);
+        Assert.assertEquals(ForkJoinScheduler.toTimeoutMillis(new BInteger(2)), 2000);
+
+        BMessage reply = new BMessage();
+        Callable<BMessage> fast = () -> reply;
+        Callable<BMessage> slow = () -> {
+            Thread.sleep(10000);
+            return new BMessage();
+        };
+
+        long timedOutCount = scheduler.getTimedOutForkCount();
+        long cancelledCount = scheduler.getCancelledBranchCount();
+        long startTime = System.nanoTime();
+        ForkJoinScheduler.ForkJoinResult result = scheduler.invokeAll(Arrays.asList(fast, slow), 250);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        Assert.assertTrue(result.isTimedOut());
+        Assert.assertTrue(elapsedMillis >= 200 && elapsedMillis < 2000, "join took " + elapsedMillis + "ms");
+        Assert.assertEquals(result.getMessages().size(), 1);
+        Assert.assertSame(result.getMessages().get(0), reply);
+        Assert.assertEquals(scheduler.getTimedOutForkCount() - timedOutCount, 1);
+        Assert.assertEquals(scheduler.getCancelledBranchCount() - cancelledCount, 1);
+        Assert.assertTrue(scheduler.getMaxForkLatencyMillis() >= 200);
+        Assert.assertTrue(scheduler.getAverageForkLatencyMillis() > 0);
+    }
+
+    @Test(description = "Test nested fork/joins on more branches than the parallelism of the pool")
+    public void testNestedForkJoins() {
+        int outerBranches = scheduler.getParallelism() + 1;
+        List<Callable<BMessage>> outer = new ArrayList<>();
+        for (int i = 0; i < outerBranches; i++) {
+            outer.add(() -> {
+                Callable<BMessage> inner = () -> {
+                    Thread.sleep(50);
+                    return new BMessage();
+                };
+                ForkJoinScheduler.ForkJoinResult result = scheduler.invokeAll(Arrays.asList(inner, inner), 10000);
+                return result.getMessages().size() == 2 ? new BMessage() : null;
+            });
+        }
+
+        ForkJoinScheduler.ForkJoinResult result = scheduler.invokeAll(outer, 20000);
+        Assert.assertFalse(result.isTimedOut());
+        Assert.assertEquals(result.getMessages().size(), outerBranches);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.runtime.worker;
+
+import org.ballerinalang.model.values.BMessage;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test executing workers on the {@link WorkerScheduler}.
+ */
+public class WorkerSchedulerTest {
+
+    private static final int POOL_SIZE = 2;
+
+    @Test(description = "Test running more concurrent blocking workers than the pool has threads")
+    public void testBlockingWorkersExceedingPoolSize() throws Exception {
+        WorkerScheduler scheduler = new WorkerScheduler(POOL_SIZE, POOL_SIZE);
+        List<Future<BMessage>> futures = new ArrayList<>();
+        for (int i = 0; i < POOL_SIZE * 4; i++) {
+            futures.add(scheduler.submit(() -> {
+                // A worker invoking another worker and waiting for its reply, as the executors do
+                Future<BMessage> child = scheduler.submit(() -> {
+                    Thread.sleep(100);
+                    return new BMessage();
+                });
+                return child.get(5, TimeUnit.SECONDS);
+            }));
+        }
+
+        for (Future<BMessage> future : futures) {
+            Assert.assertNotNull(future.get(10, TimeUnit.SECONDS));
+        }
+        Assert.assertEquals(scheduler.getSubmittedWorkers(), POOL_SIZE * 8);
+        Assert.assertTrue(scheduler.getCallerRunWorkers() > 0);
+        Assert.assertEquals(scheduler.getPoolSize(), POOL_SIZE);
+        scheduler.shutdown();
+    }
+
+    @Test(description = "Test failing workers submitted after the scheduler is shut down")
+    public void testWorkerAfterShutdown() throws Exception {
+        WorkerScheduler scheduler = new WorkerScheduler(POOL_SIZE, POOL_SIZE);
+        scheduler.shutdown();
+
+        Future<BMessage> future = scheduler.submit(BMessage::new);
+        try {
+            future.get(1, TimeUnit.SECONDS);
+            Assert.fail("worker submitted after shutdown was executed");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+        Assert.assertEquals(scheduler.getCallerRunWorkers(), 0);
+    }
+}
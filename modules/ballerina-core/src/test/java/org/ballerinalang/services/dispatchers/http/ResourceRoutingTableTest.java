@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.services.dispatchers.http;
+
+import org.ballerinalang.model.Annotation;
+import org.ballerinalang.model.Resource;
+import org.ballerinalang.model.SymbolName;
+import org.ballerinalang.services.dispatchers.uri.URITemplateException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test dispatching requests to the resources of a service through the {@link ResourceRoutingTable}.
+ */
+public class ResourceRoutingTableTest {
+
+    @Test(description = "Test matching the resource declared first when several templates match")
+    public void testDeclarationOrder() throws URITemplateException {
+        Resource byId = createResource("byId", "/products/{id}", Constants.HTTP_METHOD_GET);
+        Resource latest = createResource("latest", "/products/latest", Constants.HTTP_METHOD_GET);
+        Resource any = createResource("any", "/{category}/latest", Constants.HTTP_METHOD_GET);
+
+        ResourceRoutingTable table = new ResourceRoutingTable(new Resource[]{byId, latest, any});
+        Assert.assertSame(findResource(table, Constants.HTTP_METHOD_GET, "/products/latest"), byId);
+        Assert.assertSame(findResource(table, Constants.HTTP_METHOD_GET, "/orders/latest"), any);
+
+        table = new ResourceRoutingTable(new Resource[]{any, latest, byId});
+        Assert.assertSame(findResource(table, Constants.HTTP_METHOD_GET, "/products/latest"), any);
+        Assert.assertSame(findResource(table, Constants.HTTP_METHOD_GET, "/products/12"), byId);
+
+        table = new ResourceRoutingTable(new Resource[]{latest, any, byId});
+        Assert.assertSame(findResource(table, Constants.HTTP_METHOD_GET, "/products/latest"), latest);
+    }
+
+    @Test(description = "Test the default resource declared before and after the other resources")
+    public void testDefaultResource() throws URITemplateException {
+        Resource defaultResource = createResource("default", null, Constants.HTTP_METHOD_GET);
+        Resource wildcard = createResource("wildcard", Constants.DEFAULT_SUB_PATH, Constants.HTTP_METHOD_GET);
+        Resource products = createResource("products", "/products", Constants.HTTP_METHOD_GET);
+
+        ResourceRoutingTable table = new ResourceRoutingTable(new Resource[]{products, defaultResource});
+        Assert.assertSame(findResource(table, Constants.HTTP_METHOD_GET, "/products"), products);
+        Assert.assertSame(findResource(table, Constants.HTTP_METHOD_GET, "/orders"), defaultResource);
+
+        table = new ResourceRoutingTable(new Resource[]{wildcard, products});
+        Assert.assertSame(findResource(table, Constants.HTTP_METHOD_GET, "/products"), wildcard);
+        Assert.assertSame(findResource(table, Constants.HTTP_METHOD_GET, "/orders"), wildcard);
+    }
+
+    @Test(description = "Test populating the path and query template variables of the matched resource")
+    public void testTemplateVariables() throws URITemplateException {
+        Resource product = createResource("product", "/products/{productId}?regID={regID}",
+                Constants.HTTP_METHOD_GET);
+        Resource order = createResource("order", "/orders/{orderId}/items/{itemId}", Constants.HTTP_METHOD_GET);
+        ResourceRoutingTable table = new ResourceRoutingTable(new Resource[]{product, order});
+
+        Map<String, String> variables = new HashMap<>();
+        Assert.assertSame(table.findResource(Constants.HTTP_METHOD_GET, "/products/12?regID=abc", variables),
+                product);
+        Assert.assertEquals(variables.get("productId"), "12");
+        Assert.assertEquals(variables.get("regID"), "abc");
+
+        variables = new HashMap<>();
+        Assert.assertSame(table.findResource(Constants.HTTP_METHOD_GET, "/orders/7/items/3", variables), order);
+        Assert.assertEquals(variables.get("orderId"), "7");
+        Assert.assertEquals(variables.get("itemId"), "3");
+        Assert.assertEquals(variables.size(), 2);
+    }
+
+    @Test(description = "Test dispatching a request whose method has no resources")
+    public void testMethodWithoutResources() throws URITemplateException {
+        Resource get = createResource("get", "/products", Constants.HTTP_METHOD_GET);
+        Resource post = createResource("post", "/products", Constants.HTTP_METHOD_POST);
+        ResourceRoutingTable table = new ResourceRoutingTable(new Resource[]{get, post});
+
+        Assert.assertSame(findResource(table, Constants.HTTP_METHOD_POST, "/products"), post);
+        Assert.assertNull(findResource(table, Constants.HTTP_METHOD_PUT, "/products"));
+        Assert.assertNull(findResource(table, "FOO", "/products"));
+        Assert.assertNull(new ResourceRoutingTable(new Resource[0])
+                .findResource(Constants.HTTP_METHOD_GET, "/products", new HashMap<>()));
+    }
+
+    @Test(description = "Test reporting an invalid template only when its resource is a candidate for the request")
+    public void testInvalidTemplate() throws URITemplateException {
+        Resource products = createResource("products", "/products", Constants.HTTP_METHOD_GET);
+        Resource invalid = createResource("invalid", "/invalid/{}", Constants.HTTP_METHOD_GET);
+        ResourceRoutingTable table = new ResourceRoutingTable(new Resource[]{products, invalid});
+
+        Assert.assertSame(findResource(table, Constants.HTTP_METHOD_GET, "/products"), products);
+        Assert.assertNull(findResource(table, Constants.HTTP_METHOD_POST, "/invalid/1"));
+        try {
+            findResource(table, Constants.HTTP_METHOD_GET, "/invalid/1");
+            Assert.fail("invalid template of a candidate resource was not reported");
+        } catch (URITemplateException e) {
+            // Invalid template of the candidate resource
+        }
+    }
+
+    private static Resource findResource(ResourceRoutingTable table, String method, String path)
+            throws URITemplateException {
+        return table.findResource(method, path, new HashMap<>());
+    }
+
+    private static Resource createResource(String name, String path, String... methods) {
+        Resource.ResourceBuilder resourceBuilder = new Resource.ResourceBuilder(null);
+        resourceBuilder.setName(name);
+        if (path != null) {
+            resourceBuilder.addAnnotation(createAnnotation(Constants.ANNOTATION_NAME_PATH, path));
+        }
+        for (String method : methods) {
+            resourceBuilder.addAnnotation(createAnnotation(method, null));
+        }
+        return resourceBuilder.buildResource();
+    }
+
+    private static Annotation createAnnotation(String name, String value) {
+        Annotation.AnnotationBuilder annotationBuilder = new Annotation.AnnotationBuilder();
+        annotationBuilder.setName(new SymbolName(Constants.PROTOCOL_HTTP + ":" + name));
+        annotationBuilder.setValue(value);
+        return annotationBuilder.build();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+*  Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.util.repository;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Test looking up the source files of built-in packages of providers sharing a class path.
+ */
+public class BuiltinPackageRepositoryTest {
+
+    private static final String NATIVES_DIR = "META-INF/natives/";
+    private static final String PROVIDER_CLASS = Provider.class.getName();
+
+    private Path tempDir;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        tempDir = Files.createTempDirectory("builtin-repo");
+    }
+
+    @Test(description = "Test reading the index of the provider rather than the first index on the class path")
+    public void testIndexOfProvider() throws Exception {
+        Path otherJar = createJar("other-indexed.jar", false, "other=other.bal", "other/other.bal");
+        Path providerJar = createJar("provider-indexed.jar", true, "pkg=a.bal,b.bal", "pkg/a.bal", "pkg/b.bal");
+
+        Assert.assertEquals(loadFileNames(otherJar, providerJar, "pkg"), asSet("a.bal", "b.bal"));
+    }
+
+    @Test(description = "Test scanning the provider jar when only another jar on the class path has an index")
+    public void testProviderWithoutIndex() throws Exception {
+        Path otherJar = createJar("other.jar", false, "other=other.bal", "other/other.bal");
+        Path providerJar = createJar("provider.jar", true, null, "pkg/a.bal", "pkg/b.bal");
+
+        Assert.assertEquals(loadFileNames(otherJar, providerJar, "pkg"), asSet("a.bal", "b.bal"));
+    }
+
+    @Test(description = "Test scanning the provider jar for a package missing from its index")
+    public void testPackageMissingFromIndex() throws Exception {
+        Path providerJar = createJar("provider-partial.jar", true, "pkg=a.bal", "pkg/a.bal", "extra/c.bal");
+
+        Assert.assertEquals(loadFileNames(providerJar, providerJar, "pkg"), asSet("a.bal"));
+        Assert.assertEquals(loadFileNames(providerJar, providerJar, "extra"), asSet("c.bal"));
+    }
+
+    @Test(description = "Test taking the files of a package from the index rather than from the jar")
+    public void testIndexOverJarContents() throws Exception {
+        Path providerJar = createJar("provider-stale.jar", true, "pkg=a.bal", "pkg/a.bal", "pkg/b.bal");
+
+        Assert.assertEquals(loadFileNames(providerJar, providerJar, "pkg"), asSet("a.bal"));
+    }
+
+    @Test(description = "Test skipping the natives file of an indexed package")
+    public void testIndexSkipsNatives() throws Exception {
+        Path providerJar = createJar("provider-natives.jar", true, "pkg=a.bal,natives.bal", "pkg/a.bal",
+                "pkg/b.bal", "pkg/natives.bal");
+
+        Assert.assertEquals(loadFileNames(providerJar, providerJar, "pkg"), asSet("a.bal"));
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    private Set<String> loadFileNames(Path firstJar, Path providerJar, String packageDir) throws Exception {
+        URL[] classPath = {firstJar.toUri().toURL(), providerJar.toUri().toURL()};
+        try (URLClassLoader classLoader = new URLClassLoader(classPath, null)) {
+            Class<?> providerClass = classLoader.loadClass(PROVIDER_CLASS);
+            PackageRepository.PackageSource packageSource = new BuiltinPackageRepository(providerClass)
+                    .loadPackage(Paths.get(packageDir));
+            for (InputStream sourceStream : packageSource.getSourceFileStreamMap().values()) {
+                sourceStream.close();
+            }
+            return new TreeSet<>(packageSource.getSourceFileStreamMap().keySet());
+        }
+    }
+
+    private Path createJar(String name, boolean withProvider, String index, String... sourceFiles)
+            throws IOException {
+        Path jarPath = tempDir.resolve(name);
+        try (JarOutputStream jarStream = new JarOutputStream(Files.newOutputStream(jarPath))) {
+            if (withProvider) {
+                String classFile = PROVIDER_CLASS.replace('.', '/') + ".class";
+                jarStream.putNextEntry(new JarEntry(classFile));
+                try (InputStream classStream = Provider.class.getClassLoader().getResourceAsStream(classFile)) {
+                    copy(classStream, jarStream);
+                }
+            }
+            if (index != null) {
+                putEntry(jarStream, NATIVES_DIR + BuiltinPackageRepository.PACKAGE_INDEX_FILE, index);
+            }
+            for (String sourceFile : sourceFiles) {
+                putEntry(jarStream, NATIVES_DIR + sourceFile, "function f() {}");
+            }
+        }
+        return jarPath;
+    }
+
+    private static void putEntry(JarOutputStream jarStream, String entryName, String content) throws IOException {
+        jarStream.putNextEntry(new JarEntry(entryName));
+        jarStream.write(content.getBytes(StandardCharsets.UTF_8));
+        jarStream.closeEntry();
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[4096];
+        int length;
+        while ((length = in.read(buffer)) != -1) {
+            out.write(buffer, 0, length);
+        }
+    }
+
+    private static Set<String> asSet(String... values) {
+        Set<String> set = new TreeSet<>();
+        for (String value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    /**
+     * Package provider which is packed into the provider jars.
+     */
+    public static class Provider {
+    }
+}
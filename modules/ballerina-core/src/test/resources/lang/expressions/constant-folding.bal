@@ -0,0 +1,51 @@
+const int timeout = 30;
+const string host = "localhost";
+const boolean debug = false;
+
+function foldArithmetic() (int) {
+    return (timeout * 1000) + 60 - -5;
+}
+
+function foldStringConcat() (string) {
+    string url = "http://" + host + ":" + 9090 + "/echo";
+    return url;
+}
+
+function foldImplicitCast() (float) {
+    return 1 + 2.5;
+}
+
+function foldPartially(int a) (int) {
+    return a + timeout * 2;
+}
+
+function removeConstantBranches() (string) {
+    string result = "none";
+    if (debug) {
+        result = "debug";
+    } else if (timeout > 10 && !debug) {
+        result = "timeout";
+    } else {
+        result = "else";
+    }
+    while (debug) {
+        result = "loop";
+    }
+    return result;
+}
+
+function keepRuntimeBranches(int a) (string) {
+    string result;
+    if (debug) {
+        result = "debug";
+    } else if (a > timeout) {
+        result = "greater";
+    } else {
+        result = "smaller";
+    }
+    return result;
+}
+
+function divideByZero() (int) {
+    return timeout / 0;
+}
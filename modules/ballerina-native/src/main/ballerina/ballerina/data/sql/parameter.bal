@@ -4,4 +4,8 @@ struct Parameter {
 	string sqlType;
 	string value;
 	int direction;
-}
\ No newline at end of file
+}
+
+struct ParameterRow {
+	Parameter[] parameters;
+}
@@ -54,6 +54,15 @@ public final class Constants {
         public static final String DATASOURCE = "dataSource.";
     }
 
+    /**
+     * Constants for connector options which are handled by the connector rather than HikariCP.
+     */
+    public static final class ConnectorProperties {
+
+        public static final String STATEMENT_CACHE_SIZE = "statementCacheSize";
+        public static final String FETCH_SIZE = "fetchSize";
+    }
+
     /**
      * Constants for SQL DataTypes.
      */
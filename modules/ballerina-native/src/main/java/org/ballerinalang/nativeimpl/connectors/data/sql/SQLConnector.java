@@ -32,9 +32,12 @@ import org.ballerinalang.natives.annotations.BallerinaConnector;
 import org.ballerinalang.natives.connectors.AbstractNativeConnector;
 import org.ballerinalang.util.exceptions.BallerinaException;
 import org.osgi.service.component.annotations.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Locale;
 import java.util.Set;
 
 /**
@@ -55,8 +58,16 @@ public class SQLConnector extends AbstractNativeConnector {
     public static final String CONNECTOR_PACKAGE = "ballerina.data.sql";
     public static final String CONNECTOR_NAME = "ClientConnector";
 
+    private static final Logger log = LoggerFactory.getLogger(SQLConnector.class);
+
+    // Longest SQL statement cached by the MySQL and MariaDB drivers. Their default of 256 characters leaves out most
+    // statements with joins.
+    private static final int STATEMENT_CACHE_SQL_LIMIT = 2048;
+
     private HikariDataSource hikariDataSource;
 
+    private int fetchSize;
+
     public SQLConnector(SymbolScope enclosingScope) {
         super(enclosingScope);
     }
@@ -82,10 +93,33 @@ public class SQLConnector extends AbstractNativeConnector {
         }
     }
 
+    /**
+     * Get the number of rows to be fetched from the database at a time when reading results. Zero means that the
+     * driver default is used.
+     *
+     * @return fetch size of the result sets of this connector
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
     private void buildDataSource(BMap options) {
         HikariConfig config = new HikariConfig();
-        BString key = new BString(Constants.PoolProperties.DATA_SOURCE_CLASSNAME);
+        int statementCacheSize = 0;
+        BString key = new BString(Constants.ConnectorProperties.STATEMENT_CACHE_SIZE);
         BValue value = options.get(key);
+        if (value != null) {
+            statementCacheSize = Integer.parseInt(value.stringValue());
+            options.remove(key);
+        }
+        key = new BString(Constants.ConnectorProperties.FETCH_SIZE);
+        value = options.get(key);
+        if (value != null) {
+            fetchSize = Integer.parseInt(value.stringValue());
+            options.remove(key);
+        }
+        key = new BString(Constants.PoolProperties.DATA_SOURCE_CLASSNAME);
+        value = options.get(key);
         if (value != null) {
             config.setDataSourceClassName(value.stringValue());
             options.remove(key);
@@ -216,10 +250,35 @@ public class SQLConnector extends AbstractNativeConnector {
             config.setLeakDetectionThreshold(Long.parseLong(value.stringValue()));
             options.remove(key);
         }
+        if (statementCacheSize > 0) {
+            setStatementCacheProperties(config, statementCacheSize);
+        }
+        // Data source properties given in the options are set last, so that they override the ones set above
         setDataSourceProperties(options, config);
         hikariDataSource = new HikariDataSource(config);
     }
 
+    /**
+     * Enable the prepared statement cache of the JDBC driver. HikariCP does not cache statements itself, and the
+     * drivers name the cache properties differently.
+     */
+    private void setStatementCacheProperties(HikariConfig config, int statementCacheSize) {
+        String driver = config.getDataSourceClassName() != null ? config.getDataSourceClassName()
+                : config.getJdbcUrl();
+        driver = driver != null ? driver.toLowerCase(Locale.ENGLISH) : "";
+        if (driver.contains("mysql") || driver.contains("mariadb")) {
+            config.addDataSourceProperty("cachePrepStmts", "true");
+            config.addDataSourceProperty("prepStmtCacheSize", String.valueOf(statementCacheSize));
+            config.addDataSourceProperty("prepStmtCacheSqlLimit", String.valueOf(STATEMENT_CACHE_SQL_LIMIT));
+        } else if (driver.contains("postgresql")) {
+            config.addDataSourceProperty("preparedStatementCacheQueries", String.valueOf(statementCacheSize));
+        } else {
+            log.warn(Constants.ConnectorProperties.STATEMENT_CACHE_SIZE + " is not supported for this driver. Set "
+                    + "the statement cache properties of the driver with the " + Constants.PoolProperties.DATASOURCE
+                    + " prefix instead.");
+        }
+    }
+
     void setDataSourceProperties(BMap options, HikariConfig config) {
         Set<BString> keySet = options.keySet();
         for (BString key : keySet) {
@@ -21,8 +21,10 @@ import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BArray;
 import org.ballerinalang.model.values.BDataTable;
+import org.ballerinalang.model.values.BIntArray;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BStringArray;
 import org.ballerinalang.model.values.BStruct;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.nativeimpl.connectors.data.sql.Constants;
@@ -58,7 +60,9 @@ public abstract class AbstractSQLAction extends AbstractNativeAction {
         ResultSet rs = null;
         try {
             conn = connector.getSQLConnection();
-            stmt = conn.prepareStatement(query);
+            // Results are read once from start to end, which lets the driver stream them instead of buffering
+            stmt = conn.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            setFetchSize(stmt, connector);
             createProcessedStatement(stmt, parameters);
             rs = stmt.executeQuery();
             BDataTable datatable = new BDataTable(new SQLDataIterator(conn, stmt, rs), new HashMap<>(),
@@ -88,6 +92,38 @@ public abstract class AbstractSQLAction extends AbstractNativeAction {
         }
     }
 
+    protected void executeBatchUpdate(Context context, SQLConnector connector, String query, BArray parameterRows) {
+        Connection conn = null;
+        PreparedStatement stmt = null;
+        boolean autoCommit = true;
+        try {
+            conn = connector.getSQLConnection();
+            autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            stmt = conn.prepareStatement(query);
+            int rowCount = parameterRows.size();
+            for (int i = 0; i < rowCount; i++) {
+                BStruct parameterRow = (BStruct) parameterRows.get(i);
+                createProcessedStatement(stmt, (BArray) parameterRow.getValue(0));
+                stmt.addBatch();
+            }
+            int[] counts = stmt.executeBatch();
+            conn.commit();
+
+            BIntArray updatedCounts = new BIntArray();
+            for (int i = 0; i < counts.length; i++) {
+                updatedCounts.add(i, counts[i]);
+            }
+            context.getControlStack().setReturnValue(0, updatedCounts);
+        } catch (SQLException e) {
+            SQLConnectorUtils.rollback(conn);
+            throw new BallerinaException("execute batch update failed: " + e.getMessage(), e);
+        } finally {
+            SQLConnectorUtils.resetAutoCommit(conn, autoCommit);
+            SQLConnectorUtils.cleanupConnection(null, stmt, conn);
+        }
+    }
+
     protected void executeUpdateWithKeys(Context context, SQLConnector connector, String query,
             BArray<BString> keyColumns, BArray parameters) {
         Connection conn = null;
@@ -130,7 +166,8 @@ public abstract class AbstractSQLAction extends AbstractNativeAction {
         ResultSet rs = null;
         try {
             conn = connector.getSQLConnection();
-            stmt = conn.prepareCall(query);
+            stmt = conn.prepareCall(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            setFetchSize(stmt, connector);
             createProcessedStatement(stmt, parameters);
             boolean hasResult = stmt.execute();
             if (hasResult) {
@@ -147,6 +184,13 @@ public abstract class AbstractSQLAction extends AbstractNativeAction {
         }
     }
 
+    private void setFetchSize(Statement stmt, SQLConnector connector) throws SQLException {
+        int fetchSize = connector.getFetchSize();
+        if (fetchSize != 0) {
+            stmt.setFetchSize(fetchSize);
+        }
+    }
+
     private ArrayList<BDataTable.ColumnDefinition> getColumnDefinitions(ResultSet rs) throws SQLException {
         ArrayList<BDataTable.ColumnDefinition> columnDefs = new ArrayList<BDataTable.ColumnDefinition>();
         ResultSetMetaData rsMetaData = rs.getMetaData();
@@ -161,7 +205,7 @@ public abstract class AbstractSQLAction extends AbstractNativeAction {
     }
 
     private BArray<BString> getGeneratedKeys(ResultSet rs) throws SQLException {
-        BArray<BString> generatredKeys = new BArray<>(BString.class);
+        BStringArray generatredKeys = new BStringArray();
         ResultSetMetaData metaData = rs.getMetaData();
         int columnCount = metaData.getColumnCount();
         int columnType;
@@ -201,7 +245,7 @@ public abstract class AbstractSQLAction extends AbstractNativeAction {
                 value = rs.getString(i);
                 break;
             }
-            generatredKeys.add(i - 1, new BString(value));
+            generatredKeys.add(i - 1, value);
         }
         return generatredKeys;
     }
@@ -524,6 +524,33 @@ public class SQLConnectorUtils {
         }
     }
 
+    /**
+     * Roll back the current transaction of the given connection, ignoring any error.
+     *
+     * @param conn connection to roll back. Can be null.
+     */
+    public static void rollback(Connection conn) {
+        if (conn != null) {
+            try {
+                conn.rollback();
+            } catch (SQLException ignore) { /* ignore */ }
+        }
+    }
+
+    /**
+     * Restore the auto commit mode of the given connection before it is returned to the pool, ignoring any error.
+     *
+     * @param conn       connection to reset. Can be null.
+     * @param autoCommit auto commit mode to be restored
+     */
+    public static void resetAutoCommit(Connection conn, boolean autoCommit) {
+        if (conn != null) {
+            try {
+                conn.setAutoCommit(autoCommit);
+            } catch (SQLException ignore) { /* ignore */ }
+        }
+    }
+
     /**
      * This method will return equal ballerina data type for SQL type.
      *
@@ -26,6 +26,7 @@ import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.connectors.AbstractNativeAction;
 import org.ballerinalang.natives.connectors.BalConnectorCallback;
 import org.ballerinalang.natives.connectors.BallerinaConnectorManager;
+import org.ballerinalang.runtime.config.ConfigRegistry;
 import org.ballerinalang.util.exceptions.BallerinaException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,8 +49,11 @@ public abstract class AbstractHTTPAction extends AbstractNativeAction {
 
     private static final String BALLERINA_USER_AGENT;
 
+    private static final int DEFAULT_SENDER_TIMEOUT_SECONDS = 180;
+
     /* Application level timeout */
-    private static final long SENDER_TIMEOUT = 180000; // TODO: Make this configurable with endpoint timeout impl
+    private static final long SENDER_TIMEOUT = ConfigRegistry.getInstance().getIntProperty(
+            org.ballerinalang.runtime.Constants.CONF_HTTP_CLIENT_TIMEOUT, DEFAULT_SENDER_TIMEOUT_SECONDS) * 1000L;
 
     static {
         String version = System.getProperty(BALLERINA_VERSION);
@@ -60,18 +64,36 @@ public abstract class AbstractHTTPAction extends AbstractNativeAction {
         }
     }
 
-    protected void prepareRequest(Connector connector, String path, CarbonMessage cMsg) {
+    protected void prepareRequest(Connector connector, String path, BMessage bMessage) {
+        CarbonMessage cMsg = bMessage.value();
 
         // Handle operations for empty content messages initiated from the Ballerina core itself
         if (cMsg instanceof DefaultCarbonMessage && cMsg.isEmpty() && cMsg.getMessageDataSource() == null) {
             cMsg.setEndOfMsgAdded(true);
+        } else if (bMessage.isPassThrough()) {
+            // The payload was never read from within ballerina, so it is not read here either. The transport writes
+            // the content buffers it was received with to the outbound request as they are.
+            if (logger.isDebugEnabled()) {
+                logger.debug("Passing the message payload through to " + path);
+            }
         }
 
-        String uri = null;
         try {
-            uri = ((ClientConnector) connector).getServiceUri() + path;
+            ClientConnector clientConnector = (ClientConnector) connector;
+            URL url = clientConnector.getServiceUrl();
+            String toPath;
+            if (url != null && isAppendablePath(path)) {
+                // The request path only extends the path of the service URI, which is already parsed
+                toPath = url.getPath() + path;
+            } else {
+                url = new URL(clientConnector.getServiceUri() + path);
+                toPath = url.getPath();
+                String query = url.getQuery();
+                if (query != null) {
+                    toPath = toPath + "?" + query;
+                }
+            }
 
-            URL url = new URL(uri);
             String host = url.getHost();
             int port = 80;
             if (url.getPort() != -1) {
@@ -82,11 +104,6 @@ public abstract class AbstractHTTPAction extends AbstractNativeAction {
 
             cMsg.setProperty(Constants.HOST, host);
             cMsg.setProperty(Constants.PORT, port);
-            String toPath = url.getPath();
-            String query = url.getQuery();
-            if (query != null) {
-                toPath = toPath + "?" + query;
-            }
             cMsg.setProperty(Constants.TO, toPath);
 
             cMsg.setProperty(Constants.PROTOCOL, url.getProtocol());
@@ -117,6 +134,13 @@ public abstract class AbstractHTTPAction extends AbstractNativeAction {
 
     }
 
+    private static boolean isAppendablePath(String path) {
+        if (path == null || path.indexOf('#') != -1) {
+            return false;
+        }
+        return path.isEmpty() || path.charAt(0) == '/' || path.charAt(0) == '?';
+    }
+
     protected BValue executeAction(Context context, CarbonMessage message) {
 
         try {
@@ -131,18 +155,10 @@ public abstract class AbstractHTTPAction extends AbstractNativeAction {
             clientConnector.send(message, balConnectorCallback);
 
             // Wait till Response comes
-            long startTime = System.currentTimeMillis();
-            while (!balConnectorCallback.isResponseArrived()) {
-                synchronized (context) {
-                    if (!balConnectorCallback.isResponseArrived()) {
-                        logger.debug("Waiting for a response");
-                        context.wait(SENDER_TIMEOUT);
-                        if (System.currentTimeMillis() >= (startTime + SENDER_TIMEOUT)) {
-                            throw new RuntimeException("response was not received within sender timeout of " +
-                                                       SENDER_TIMEOUT / 1000 + " seconds");
-                        }
-                    }
-                }
+            logger.debug("Waiting for a response");
+            if (!balConnectorCallback.awaitResponse(SENDER_TIMEOUT)) {
+                throw new RuntimeException("response was not received within sender timeout of " +
+                                           SENDER_TIMEOUT / 1000 + " seconds");
             }
             handleTransportException(balConnectorCallback.getValueRef());
             return balConnectorCallback.getValueRef();
@@ -25,6 +25,9 @@ import org.ballerinalang.natives.annotations.BallerinaConnector;
 import org.ballerinalang.natives.connectors.AbstractNativeConnector;
 import org.osgi.service.component.annotations.Component;
 
+import java.net.MalformedURLException;
+import java.net.URL;
+
 /**
  * Native HTTP Connector.
  */
@@ -51,10 +54,13 @@ public class ClientConnector extends AbstractNativeConnector {
 
     private String serviceUri;
 
+    private URL serviceUrl;
+
     @Override
     public boolean init(BValue[] bValueRefs) {
         if (bValueRefs != null && bValueRefs.length == 1) {
             serviceUri = bValueRefs[0].stringValue();
+            serviceUrl = parseServiceUri(serviceUri);
         }
         return true;
     }
@@ -69,6 +75,29 @@ public class ClientConnector extends AbstractNativeConnector {
         return serviceUri;
     }
 
+    /**
+     * Get the service URI, parsed when the connector was created.
+     *
+     * @return parsed service URI, or null if request paths cannot simply be appended to it
+     */
+    public URL getServiceUrl() {
+        return serviceUrl;
+    }
+
+    private static URL parseServiceUri(String serviceUri) {
+        try {
+            URL url = new URL(serviceUri);
+            // A path appended to a URI with a query or a fragment does not end up in the path of the request
+            if (url.getQuery() != null || url.getRef() != null) {
+                return null;
+            }
+            return url;
+        } catch (MalformedURLException e) {
+            // Reported by the actions, which parse the full request URI
+            return null;
+        }
+    }
+
     public boolean equals(Object obj) {
         return super.equals(obj);
     }
@@ -121,7 +121,7 @@ public class Execute extends AbstractHTTPAction {
 
         // Prepare the message
         CarbonMessage cMsg = bMessage.value();
-        prepareRequest(connector, path, cMsg);
+        prepareRequest(connector, path, bMessage);
 
         // If the verb is not specified, use the verb in incoming message
         if (httpVerb == null || "".equals(httpVerb)) {
@@ -114,7 +114,7 @@ public class Get extends AbstractHTTPAction {
         }
         // Prepare the message
         CarbonMessage cMsg = bMessage.value();
-        prepareRequest(connector, path, cMsg);
+        prepareRequest(connector, path, bMessage);
         cMsg.setProperty(Constants.HTTP_METHOD, Constants.HTTP_METHOD_GET);
 
         return cMsg;
@@ -117,7 +117,7 @@ public class Head extends AbstractHTTPAction {
 
         // Prepare the message
         CarbonMessage cMsg = bMessage.value();
-        prepareRequest(connector, path, cMsg);
+        prepareRequest(connector, path, bMessage);
         cMsg.setProperty(Constants.HTTP_METHOD, Constants.HTTP_METHOD_HEAD);
         return cMsg;
     }
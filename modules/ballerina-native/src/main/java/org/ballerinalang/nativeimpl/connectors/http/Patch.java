@@ -116,7 +116,7 @@ public class Patch extends AbstractHTTPAction {
 
         // Prepare the message
         CarbonMessage cMsg = bMessage.value();
-        prepareRequest(connector, path, cMsg);
+        prepareRequest(connector, path, bMessage);
         cMsg.setProperty(Constants.HTTP_METHOD, Constants.HTTP_METHOD_PATCH);
         return cMsg;
     }
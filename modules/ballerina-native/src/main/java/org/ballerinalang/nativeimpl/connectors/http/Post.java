@@ -117,7 +117,7 @@ public class Post extends AbstractHTTPAction {
 
         // Prepare the message
         CarbonMessage cMsg = bMessage.value();
-        prepareRequest(connector, path, cMsg);
+        prepareRequest(connector, path, bMessage);
         cMsg.setProperty(Constants.HTTP_METHOD, Constants.HTTP_METHOD_POST);
         return cMsg;
     }
@@ -118,7 +118,7 @@ public class Put extends AbstractHTTPAction {
 
         // Prepare the message
         CarbonMessage cMsg = bMessage.value();
-        prepareRequest(connector, path, cMsg);
+        prepareRequest(connector, path, bMessage);
         cMsg.setProperty(Constants.HTTP_METHOD, Constants.HTTP_METHOD_PUT);
         return cMsg;
     }
@@ -34,6 +34,7 @@ import org.ballerinalang.natives.annotations.ReturnType;
 import org.ballerinalang.natives.connectors.BalConnectorCallback;
 import org.ballerinalang.natives.connectors.BallerinaConnectorManager;
 import org.ballerinalang.runtime.message.BallerinaMessageDataSource;
+import org.ballerinalang.runtime.message.BlobDataSource;
 import org.ballerinalang.runtime.message.StringDataSource;
 import org.ballerinalang.util.exceptions.BallerinaException;
 import org.slf4j.Logger;
@@ -108,6 +109,9 @@ public class Send extends AbstractJMSAction {
             if (ballerinaMessageDataSource != null) {
                 if (ballerinaMessageDataSource instanceof StringDataSource) {
                     message = new TextCarbonMessage(((StringDataSource) ballerinaMessageDataSource).getValue());
+                } else if (ballerinaMessageDataSource instanceof BlobDataSource) {
+                    // Payload of a received message, which was kept as it was read
+                    message = new TextCarbonMessage(ballerinaMessageDataSource.getMessageAsString());
                 } else {
                     throw new BallerinaException(
                             "If the message type is " + messageType + ", a string payload must be set", context);
@@ -21,7 +21,6 @@ package org.ballerinalang.nativeimpl.lang.arrays;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BArray;
-import org.ballerinalang.model.values.BFloat;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
@@ -68,11 +67,6 @@ public class FloatArrayRangeCopy extends AbstractNativeFunction {
             throw new BallerinaException(
                     "Array index out of range. Actual:" + array.size() + " requested: " + from + " to " + to);
         }
-        BArray<BFloat> newArray = new BArray<>(BFloat.class);
-        int index = 0;
-        for (int i = from; i < to; i++) {
-            newArray.add(index++, array.get(i));
-        }
-        return getBValues(newArray);
+        return getBValues(array.copyOfRange(from, to));
     }
 }
@@ -21,7 +21,6 @@ package org.ballerinalang.nativeimpl.lang.arrays;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BArray;
-import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
@@ -50,10 +49,6 @@ public class IntArrayCopyOf extends AbstractNativeFunction {
     @Override
     public BValue[] execute(Context context) {
         BArray array = (BArray) getArgument(context, 0);
-        BArray<BInteger> newArray = new BArray<>(BInteger.class);
-        for (int i = 0; i < array.size(); i++) {
-            newArray.add(i, array.get(i));
-        }
-        return getBValues(newArray);
+        return getBValues(array.copyOfRange(0, array.size()));
     }
 }
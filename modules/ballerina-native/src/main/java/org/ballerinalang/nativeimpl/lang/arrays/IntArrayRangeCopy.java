@@ -67,11 +67,6 @@ public class IntArrayRangeCopy extends AbstractNativeFunction {
             throw new BallerinaException(
                     "Array index out of range. Actual:" + array.size() + " requested: " + from + " to " + to);
         }
-        BArray<BInteger> newArray = new BArray<>(BInteger.class);
-        int index = 0;
-        for (int i = from; i < to; i++) {
-            newArray.add(index++, array.get(i));
-        }
-        return getBValues(newArray);
+        return getBValues(array.copyOfRange(from, to));
     }
 }
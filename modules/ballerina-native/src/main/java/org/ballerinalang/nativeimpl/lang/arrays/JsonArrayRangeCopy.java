@@ -22,7 +22,6 @@ import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BArray;
 import org.ballerinalang.model.values.BInteger;
-import org.ballerinalang.model.values.BJSON;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
@@ -68,11 +67,6 @@ public class JsonArrayRangeCopy extends AbstractNativeFunction {
             throw new BallerinaException(
                     "Array index out of range. Actual:" + array.size() + " requested: " + from + " to " + to);
         }
-        BArray<BJSON> newArray = new BArray<>(BJSON.class);
-        int index = 0;
-        for (int i = from; i < to; i++) {
-            newArray.add(index++, array.get(i));
-        }
-        return getBValues(newArray);
+        return getBValues(array.copyOfRange(from, to));
     }
 }
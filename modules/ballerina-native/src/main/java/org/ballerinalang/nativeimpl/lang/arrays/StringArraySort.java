@@ -21,7 +21,7 @@ package org.ballerinalang.nativeimpl.lang.arrays;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BArray;
-import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BStringArray;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
@@ -30,10 +30,6 @@ import org.ballerinalang.natives.annotations.BallerinaAnnotation;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.ReturnType;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-
 
 /**
  * Native function ballerina.model.arrays:sort(string[]).
@@ -57,17 +53,9 @@ public class StringArraySort extends AbstractNativeFunction {
     public BValue[] execute(Context context) {
         BArray array = (BArray) getArgument(context, 0);
 
-        List<BString> list = new ArrayList<>();
-        for (int i = 0; i < array.size(); i++) {
-            list.add(i, (BString) array.get(i));
-        }
-        Collections.sort(list, (bString1, bString2) -> bString1.stringValue().compareTo(bString2.stringValue()));
-        BArray<BString> sortedArray = new BArray<>(BString.class);
-        int i = 0;
-        while (i < list.size()) {
-            sortedArray.add(i, list.get(i));
-            i++;
-        }
+        // Copying a string array always yields a BStringArray, which is sorted in place
+        BStringArray sortedArray = (BStringArray) array.copyOfRange(0, array.size());
+        sortedArray.sort();
         return getBValues(sortedArray);
     }
 }
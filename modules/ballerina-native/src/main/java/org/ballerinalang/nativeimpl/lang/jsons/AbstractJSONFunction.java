@@ -35,12 +35,9 @@ import java.util.Set;
  */
 public abstract class AbstractJSONFunction extends AbstractNativeFunction {
 
-    /**
-     * Create a JSON function.
-     */
-    public AbstractJSONFunction() {
-        super();
-        // Configure jayway jsonpath with Jackson provider
+    static {
+        // Configure jayway jsonpath with Jackson provider, once for all the JSON functions. The functions themselves
+        // evaluate through JSONPathUtils, which does not depend on the global defaults.
         Configuration.setDefaults(new JacksonDefaultConfiguration());
     }
 
@@ -19,7 +19,6 @@
 package org.ballerinalang.nativeimpl.lang.jsons;
 
 import com.jayway.jsonpath.InvalidPathException;
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.JsonPathException;
 import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.WriteContext;
@@ -29,6 +28,7 @@ import org.ballerinalang.model.values.BBoolean;
 import org.ballerinalang.model.values.BJSON;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.nativeimpl.lang.utils.ErrorHandler;
+import org.ballerinalang.nativeimpl.lang.utils.JSONPathUtils;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
@@ -74,8 +74,8 @@ public class AddBooleanToObject extends AbstractJSONFunction {
             boolean value = ((BBoolean) getArgument(ctx, 3)).booleanValue();
 
             // Adding the value to JSON Object
-            WriteContext jsonCtx = JsonPath.parse(json.value());
-            jsonCtx.put(jsonPath, key, value);
+            WriteContext jsonCtx = JSONPathUtils.parse(json.value());
+            jsonCtx.put(JSONPathUtils.compile(jsonPath), key, value);
         } catch (PathNotFoundException e) {
             ErrorHandler.handleNonExistingJsonpPath(OPERATION, jsonPath, e);
         } catch (InvalidPathException e) {
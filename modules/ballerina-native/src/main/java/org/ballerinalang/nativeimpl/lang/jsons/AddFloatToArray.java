@@ -19,7 +19,6 @@
 package org.ballerinalang.nativeimpl.lang.jsons;
 
 import com.jayway.jsonpath.InvalidPathException;
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.JsonPathException;
 import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.WriteContext;
@@ -29,6 +28,7 @@ import org.ballerinalang.model.values.BFloat;
 import org.ballerinalang.model.values.BJSON;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.nativeimpl.lang.utils.ErrorHandler;
+import org.ballerinalang.nativeimpl.lang.utils.JSONPathUtils;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
@@ -70,8 +70,8 @@ public class AddFloatToArray extends AbstractJSONFunction {
             float value = ((BFloat) getArgument(ctx, 2)).floatValue();
 
             // Adding the value to JSON Array
-            WriteContext jsonCtx = JsonPath.parse(json.value());
-            jsonCtx.add(jsonPath, value);
+            WriteContext jsonCtx = JSONPathUtils.parse(json.value());
+            jsonCtx.add(JSONPathUtils.compile(jsonPath), value);
         } catch (PathNotFoundException e) {
             ErrorHandler.handleNonExistingJsonpPath(OPERATION, jsonPath, e);
         } catch (InvalidPathException e) {
@@ -19,7 +19,6 @@
 package org.ballerinalang.nativeimpl.lang.jsons;
 
 import com.jayway.jsonpath.InvalidPathException;
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.JsonPathException;
 import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.WriteContext;
@@ -28,6 +27,7 @@ import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BJSON;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.nativeimpl.lang.utils.ErrorHandler;
+import org.ballerinalang.nativeimpl.lang.utils.JSONPathUtils;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.Attribute;
 import org.ballerinalang.natives.annotations.BallerinaAnnotation;
@@ -70,8 +70,8 @@ public class Rename extends AbstractJSONFunction {
             String newKey = getArgument(ctx, 3).stringValue();
             
             // Rename the element key
-            WriteContext jsonCtx = JsonPath.parse(json.value());
-            jsonCtx.renameKey(jsonPath, oldKey, newKey);
+            WriteContext jsonCtx = JSONPathUtils.parse(json.value());
+            jsonCtx.renameKey(JSONPathUtils.compile(jsonPath), oldKey, newKey);
         } catch (PathNotFoundException e) {
             ErrorHandler.handleNonExistingJsonpPath(OPERATION, jsonPath, e);
         } catch (InvalidPathException e) {
@@ -20,9 +20,9 @@ package org.ballerinalang.nativeimpl.lang.maps;
 
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeEnum;
-import org.ballerinalang.model.values.BArray;
 import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BStringArray;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.AbstractNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
@@ -55,7 +55,7 @@ public class GetKeys extends AbstractNativeFunction {
     public BValue[] execute(Context ctx) {
         BMap map = (BMap) getArgument(ctx, 0);
         Set<BString> keySet = map.keySet();
-        BArray<BString> keyArray = new BArray<>(BString.class);
+        BStringArray keyArray = new BStringArray();
         int i = 0;
         for (BString key : keySet) {
             keyArray.add(i++, key);
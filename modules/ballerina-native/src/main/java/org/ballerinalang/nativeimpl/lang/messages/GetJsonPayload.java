@@ -19,6 +19,7 @@
 package org.ballerinalang.nativeimpl.lang.messages;
 
 import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.StreamingJSONDataSource;
 import org.ballerinalang.model.types.TypeEnum;
 import org.ballerinalang.model.values.BJSON;
 import org.ballerinalang.model.values.BMessage;
@@ -68,7 +69,8 @@ public class GetJsonPayload extends AbstractNativeFunction {
                     result = new BJSON(msg.getMessageDataSource().getMessageAsString());
                 }
             } else {
-                result = new BJSON(msg.value().getInputStream());
+                // The payload is only parsed when it is accessed, and passed through as it is otherwise
+                result = new BJSON(new StreamingJSONDataSource(msg.value().getInputStream()));
                 msg.setMessageDataSource(result);
                 msg.setAlreadyRead(true);
             }
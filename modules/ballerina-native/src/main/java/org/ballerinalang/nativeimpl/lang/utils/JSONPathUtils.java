@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.nativeimpl.lang.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.ParseContext;
+import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
+import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
+import org.ballerinalang.model.values.BJSON;
+import org.ballerinalang.runtime.Constants;
+import org.ballerinalang.runtime.config.ConfigRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Utility class to evaluate JSONPaths on JSON values using Jayway JsonPath with the Jackson provider.
+ * <p>
+ * A single Jackson backed {@link ParseContext} is shared by all evaluations, and compiled JSONPaths are kept in a
+ * bounded LRU cache. Reads of plain paths made of property names and array indexes, such as {@code $.a.b[2]}, are
+ * resolved by walking the {@link JsonNode} tree directly. The first such read of a JSON which has not been built yet
+ * reads just the element from the payload, and later reads build the tree once.
+ */
+public class JSONPathUtils {
+
+    private static final int DEFAULT_CACHE_SIZE = 1000;
+
+    private static final Configuration configuration = Configuration.builder()
+            .jsonProvider(new JacksonJsonNodeJsonProvider())
+            .mappingProvider(new JacksonMappingProvider())
+            .options(EnumSet.noneOf(Option.class))
+            .build();
+
+    private static final ParseContext parseContext = JsonPath.using(configuration);
+
+    private static final Map<String, CompiledPath> pathCache;
+
+    static {
+        int cacheSize = ConfigRegistry.getInstance().getIntProperty(Constants.CONF_JSONPATH_CACHE_SIZE,
+                DEFAULT_CACHE_SIZE);
+        pathCache = Collections.synchronizedMap(new LinkedHashMap<String, CompiledPath>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompiledPath> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * Read the element matching a JSONPath.
+     *
+     * @param json     JSON value
+     * @param jsonPath JSONPath expression
+     * @param <T>      expected type of the result
+     * @return matching element
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T read(BJSON json, String jsonPath) {
+        CompiledPath compiledPath = getCompiledPath(jsonPath);
+        if (compiledPath.segments != null) {
+            JsonNode element = json.readScalar(compiledPath.segments);
+            if (element == null) {
+                element = walk(json.value(), compiledPath.segments);
+            }
+            if (element != null) {
+                return (T) element;
+            }
+            // Missing elements are left to Jayway, which reports them
+        }
+        return parseContext.parse(json.value()).read(compiledPath.path);
+    }
+
+    /**
+     * Get the compiled form of a JSONPath, compiling it if it is not cached.
+     *
+     * @param jsonPath JSONPath expression
+     * @return compiled JSONPath
+     */
+    public static JsonPath compile(String jsonPath) {
+        return getCompiledPath(jsonPath).path;
+    }
+
+    /**
+     * Wrap a JSON value in a context, through which it can be read and modified in place.
+     *
+     * @param json JSON value
+     * @return document context of the value
+     */
+    public static DocumentContext parse(JsonNode json) {
+        return parseContext.parse(json);
+    }
+
+    private static CompiledPath getCompiledPath(String jsonPath) {
+        CompiledPath compiledPath = pathCache.get(jsonPath);
+        if (compiledPath == null) {
+            compiledPath = new CompiledPath(JsonPath.compile(jsonPath), parseSimplePath(jsonPath));
+            pathCache.put(jsonPath, compiledPath);
+        }
+        return compiledPath;
+    }
+
+    private static JsonNode walk(JsonNode json, Object[] segments) {
+        JsonNode node = json;
+        for (Object segment : segments) {
+            if (segment instanceof String) {
+                node = node.isObject() ? node.get((String) segment) : null;
+            } else {
+                node = node.isArray() ? node.get((Integer) segment) : null;
+            }
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Split a plain JSONPath into property names and array indexes.
+     *
+     * @param jsonPath JSONPath expression
+     * @return path segments, or null if the path uses any other JSONPath construct
+     */
+    private static Object[] parseSimplePath(String jsonPath) {
+        if (!jsonPath.startsWith("$")) {
+            return null;
+        }
+
+        List<Object> segments = new ArrayList<>();
+        int length = jsonPath.length();
+        int i = 1;
+        while (i < length) {
+            char c = jsonPath.charAt(i);
+            if (c == '.') {
+                int start = ++i;
+                while (i < length && isNameChar(jsonPath.charAt(i))) {
+                    i++;
+                }
+                if (i == start) {
+                    // Deep scan, wildcard or a function
+                    return null;
+                }
+                segments.add(jsonPath.substring(start, i));
+            } else if (c == '[') {
+                int start = ++i;
+                while (i < length && Character.isDigit(jsonPath.charAt(i))) {
+                    i++;
+                }
+                if (i == start || i >= length || jsonPath.charAt(i) != ']' || i - start > 9) {
+                    // Quoted names, slices, wildcards and filters
+                    return null;
+                }
+                segments.add(Integer.parseInt(jsonPath.substring(start, i)));
+                i++;
+            } else {
+                return null;
+            }
+        }
+        return segments.toArray();
+    }
+
+    private static boolean isNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '-';
+    }
+
+    /**
+     * {@code CompiledPath} holds a compiled JSONPath, and its segments if it is a plain path.
+     */
+    private static class CompiledPath {
+
+        private final JsonPath path;
+        private final Object[] segments;
+
+        CompiledPath(JsonPath path, Object[] segments) {
+            this.path = path;
+            this.segments = segments;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.nativeimpl.lang.utils;
+
+import net.sf.saxon.s9api.Processor;
+import net.sf.saxon.s9api.SaxonApiException;
+import net.sf.saxon.s9api.XPathCompiler;
+import net.sf.saxon.s9api.XPathExecutable;
+import net.sf.saxon.s9api.XPathSelector;
+import net.sf.saxon.s9api.XdmNode;
+import net.sf.saxon.s9api.XdmValue;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BXML;
+import org.ballerinalang.runtime.Constants;
+import org.ballerinalang.runtime.config.ConfigRegistry;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Utility class to evaluate XPaths on XML values using Saxon.
+ * <p>
+ * A single {@link Processor} is shared by all evaluations. Compiled XPaths are kept in a bounded LRU cache keyed by
+ * the expression and the declared namespaces, and the Saxon tree of an XML value is cached on the {@link BXML} until
+ * the value is modified.
+ */
+public class XPathUtils {
+
+    private static final int DEFAULT_CACHE_SIZE = 1000;
+
+    private static final Processor processor = new Processor(false);
+
+    private static final Map<CacheKey, XPathExecutable> xPathCache;
+
+    static {
+        int cacheSize = ConfigRegistry.getInstance().getIntProperty(Constants.CONF_XPATH_CACHE_SIZE,
+                DEFAULT_CACHE_SIZE);
+        xPathCache = Collections.synchronizedMap(new LinkedHashMap<CacheKey, XPathExecutable>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, XPathExecutable> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * Evaluate an XPath on a XML value.
+     *
+     * @param xml        XML value
+     * @param xPath      XPath expression
+     * @param namespaces namespace prefixes used in the expression, mapped to namespace URIs. Can be null.
+     * @return result of the evaluation
+     * @throws SaxonApiException if the XPath is invalid or the evaluation fails
+     */
+    public static XdmValue evaluate(BXML xml, String xPath, BMap<BString, BString> namespaces)
+            throws SaxonApiException {
+        XPathSelector selector = compile(xPath, namespaces).load();
+        selector.setContextItem(getDocument(xml));
+        return selector.evaluate();
+    }
+
+    /**
+     * Get the compiled form of an XPath, compiling it if it is not cached.
+     *
+     * @param xPath      XPath expression
+     * @param namespaces namespace prefixes used in the expression, mapped to namespace URIs. Can be null.
+     * @return compiled XPath
+     * @throws SaxonApiException if the XPath is invalid
+     */
+    public static XPathExecutable compile(String xPath, BMap<BString, BString> namespaces)
+            throws SaxonApiException {
+        CacheKey key = new CacheKey(xPath, toNamespaceMap(namespaces));
+        XPathExecutable executable = xPathCache.get(key);
+        if (executable != null) {
+            return executable;
+        }
+
+        XPathCompiler xPathCompiler = processor.newXPathCompiler();
+        for (Map.Entry<String, String> namespace : key.namespaces.entrySet()) {
+            xPathCompiler.declareNamespace(namespace.getKey(), namespace.getValue());
+        }
+        executable = xPathCompiler.compile(xPath);
+        xPathCache.put(key, executable);
+        return executable;
+    }
+
+    /**
+     * Get the Saxon tree of a XML value, building it if it is not cached on the value.
+     *
+     * @param xml XML value
+     * @return Saxon tree of the value
+     * @throws SaxonApiException if the tree cannot be built
+     */
+    public static XdmNode getDocument(BXML xml) throws SaxonApiException {
+        XdmNode doc = xml.getXdmNode();
+        if (doc == null) {
+            doc = processor.newDocumentBuilder().build(xml.value().getSAXSource(true));
+            xml.setXdmNode(doc);
+        }
+        return doc;
+    }
+
+    private static Map<String, String> toNamespaceMap(BMap<BString, BString> namespaces) {
+        if (namespaces == null || namespaces.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> namespaceMap = new HashMap<>();
+        for (BString prefix : namespaces.keySet()) {
+            namespaceMap.put(prefix.stringValue(), namespaces.get(prefix).stringValue());
+        }
+        return namespaceMap;
+    }
+
+    /**
+     * {@code CacheKey} identifies a compiled XPath by its expression and namespace declarations.
+     */
+    private static class CacheKey {
+
+        private final String xPath;
+        private final Map<String, String> namespaces;
+
+        CacheKey(String xPath, Map<String, String> namespaces) {
+            this.xPath = xPath;
+            this.namespaces = namespaces;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) obj;
+            return xPath.equals(other.xPath) && namespaces.equals(other.namespaces);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(xPath, namespaces);
+        }
+    }
+}
@@ -85,6 +85,7 @@ public class AddAttribute extends AbstractNativeFunction {
             
             // Setting the value to XML
             AXIOMXPath axiomxPath = new AXIOMXPath(xPath);
+            xml.markModified();
             Object result = axiomxPath.evaluate(xml.value());
             if (result instanceof ArrayList) {
                 List<?> macthingElements = (List<?>) result;
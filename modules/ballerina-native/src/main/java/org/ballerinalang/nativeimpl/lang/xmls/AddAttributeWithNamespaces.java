@@ -97,6 +97,7 @@ public class AddAttributeWithNamespaces extends AbstractNativeFunction {
                 }
             }
 
+            xml.markModified();
             Object result = axiomxPath.evaluate(xml.value());
             if (result instanceof ArrayList) {
                 List<?> macthingElements = (List<?>) result;
@@ -94,6 +94,7 @@ public class AddElementWithNamespaces extends AbstractNativeFunction {
                 }
             }
 
+            xml.markModified();
             Object result = axiomxPath.evaluate(xml.value());
             if (result instanceof ArrayList) {
                 List<?> macthingElements = (List<?>) result;
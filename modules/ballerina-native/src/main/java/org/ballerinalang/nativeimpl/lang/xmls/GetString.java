@@ -19,12 +19,7 @@
 package org.ballerinalang.nativeimpl.lang.xmls;
 
 import net.sf.saxon.om.Sequence;
-import net.sf.saxon.s9api.DocumentBuilder;
-import net.sf.saxon.s9api.Processor;
 import net.sf.saxon.s9api.SaxonApiException;
-import net.sf.saxon.s9api.XPathCompiler;
-import net.sf.saxon.s9api.XPathSelector;
-import net.sf.saxon.s9api.XdmNode;
 import net.sf.saxon.s9api.XdmValue;
 import net.sf.saxon.value.EmptySequence;
 import org.ballerinalang.bre.Context;
@@ -33,6 +28,7 @@ import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.model.values.BXML;
 import org.ballerinalang.nativeimpl.lang.utils.ErrorHandler;
+import org.ballerinalang.nativeimpl.lang.utils.XPathUtils;
 import org.ballerinalang.natives.AbstractNativeFunction;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.Attribute;
@@ -72,13 +68,7 @@ public class GetString extends AbstractNativeFunction {
             String xPath = getArgument(ctx, 1).stringValue();
 
             // Getting the value from XML
-            Processor processor = new Processor(false);
-            XPathCompiler xPathCompiler = processor.newXPathCompiler();
-            DocumentBuilder builder = processor.newDocumentBuilder();
-            XdmNode doc = builder.build(xml.value().getSAXSource(true));
-            XPathSelector selector = xPathCompiler.compile(xPath).load();
-            selector.setContextItem(doc);
-            XdmValue xdmValue = selector.evaluate();
+            XdmValue xdmValue = XPathUtils.evaluate(xml, xPath, null);
             Sequence sequence = xdmValue.getUnderlyingValue();
             
             if (sequence instanceof EmptySequence) {
@@ -65,6 +65,7 @@ public class Remove extends AbstractNativeFunction {
 
             // Setting the value to XML
             AXIOMXPath axiomxPath = new AXIOMXPath(xPath);
+            xml.markModified();
             Object ob = axiomxPath.evaluate(xml.value());
             if (ob instanceof ArrayList) {
                 List<?> list = (List<?>) ob;
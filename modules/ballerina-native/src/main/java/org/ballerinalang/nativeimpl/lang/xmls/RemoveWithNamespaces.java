@@ -75,6 +75,7 @@ public class RemoveWithNamespaces extends AbstractNativeFunction {
                     axiomxPath.addNamespace(entry.stringValue(), namespaces.get(entry).stringValue());
                 }
             }
+            xml.markModified();
             Object ob = axiomxPath.evaluate(xml.value());
             if (ob instanceof ArrayList) {
                 List<?> list = (List<?>) ob;
@@ -88,6 +88,7 @@ public class SetString extends AbstractNativeFunction {
 
                 }
             }*/
+            xml.markModified();
             Object ob = axiomxPath.evaluate(xml.value());
             if (ob instanceof ArrayList) {
                 List list = (List) ob;
@@ -81,6 +81,7 @@ public class SetXML extends AbstractNativeFunction {
 
             // Setting the value to XML
             AXIOMXPath axiomxPath = new AXIOMXPath(xPath);
+            xml.markModified();
             Object ob = axiomxPath.evaluate(xml.value());
             if (ob instanceof ArrayList) {
                 List<?> list = (List<?>) ob;
@@ -94,6 +94,7 @@ public class SetXMLWithNamespaces extends AbstractNativeFunction {
                 }
             }
 
+            xml.markModified();
             Object ob = axiomxPath.evaluate(xml.value());
             if (ob instanceof ArrayList) {
                 List<?> list = (List<?>) ob;
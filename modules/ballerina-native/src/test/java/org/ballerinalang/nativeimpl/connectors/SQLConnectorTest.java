@@ -18,6 +18,7 @@
 package org.ballerinalang.nativeimpl.connectors;
 
 import org.ballerinalang.model.BLangProgram;
+import org.ballerinalang.model.values.BIntArray;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
@@ -115,6 +116,14 @@ public class SQLConnectorTest {
         Assert.assertEquals(retValue.stringValue(), expected);
     }
 
+    @Test
+    public void testStatementCacheAndFetchSize() {
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "testStatementCacheAndFetchSize");
+        BString retValue = (BString) returns[0];
+        final String expected = "Peter";
+        Assert.assertEquals(retValue.stringValue(), expected);
+    }
+
     @Test
     public void testQueryParameters() {
         BValue[] returns = BLangFunctions.invoke(bLangProgram, "testQueryParameters");
@@ -130,6 +139,14 @@ public class SQLConnectorTest {
         Assert.assertEquals(retValue.intValue(), 1);
     }
 
+    @Test
+    public void testBatchUpdate() {
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "testBatchUpdate");
+        BIntArray retValue = (BIntArray) returns[0];
+        Assert.assertEquals(retValue.size(), 2);
+        Assert.assertEquals(retValue.getInt(0), 1);
+        Assert.assertEquals(retValue.getInt(1), 1);
+    }
 
     @AfterSuite
     public void cleanup() {
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.nativeimpl.connectors.http;
+
+import org.ballerinalang.model.util.MessageUtils;
+import org.ballerinalang.model.values.BMessage;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.messaging.DefaultCarbonMessage;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Test preparing requests of the HTTP client connector actions.
+ */
+public class HTTPActionTest {
+
+    @Test
+    public void testPrepareRequestPassThrough() {
+        final byte[] payload = {(byte) 0xca, (byte) 0xfe, 0, (byte) 0xe9, 'a'};
+        DefaultCarbonMessage carbonMsg = new DefaultCarbonMessage();
+        carbonMsg.addMessageBody(ByteBuffer.wrap(payload));
+        carbonMsg.setEndOfMsgAdded(true);
+        BMessage bMessage = new BMessage(carbonMsg);
+        Assert.assertTrue(bMessage.isPassThrough());
+
+        ClientConnector connector = new ClientConnector(null);
+        connector.init(new BValue[]{new BString("http://localhost:9090/echo")});
+        new Post().prepareRequest(connector, "/resource", bMessage);
+
+        Assert.assertEquals(carbonMsg.getProperty(Constants.TO), "/echo/resource");
+        // The payload is still in the received buffers, as it was received
+        Assert.assertTrue(bMessage.isPassThrough());
+        Assert.assertFalse(carbonMsg.isEmpty());
+        Assert.assertEquals(MessageUtils.getBytesFromInputStream(carbonMsg.getInputStream()), payload);
+    }
+}
@@ -104,6 +104,25 @@ public class DataTableTest {
                         + "<BOOLEAN_TYPE>true</BOOLEAN_TYPE><STRING_TYPE>Hello</STRING_TYPE></type></types>");
     }
 
+    @Test(description = "Check toJson methods with repeated column names.")
+    public void testToJsonDuplicateColumns() {
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "toJsonDuplicateColumns");
+
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertTrue(returns[0] instanceof BJSON);
+        Assert.assertEquals(returns[0].stringValue(), "[{\"INT_TYPE\":1,\"STRING_TYPE\":\"Hello\"}]");
+    }
+
+    @Test(description = "Check toXml methods with repeated column names.")
+    public void testToXmlDuplicateColumns() {
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "toXmlDuplicateColumns");
+
+        Assert.assertEquals(returns.length, 1);
+        Assert.assertTrue(returns[0] instanceof BXML);
+        Assert.assertEquals(returns[0].stringValue(), "<types><type><INT_TYPE>1</INT_TYPE><INT_TYPE>100</INT_TYPE>"
+                + "<STRING_TYPE>Hello</STRING_TYPE></type></types>");
+    }
+
     @Test(description = "Check toXml methods with complex element.")
     public void testToXmlComplex() {
         BValue[] returns = BLangFunctions.invoke(bLangProgram, "toXmlComplex");
@@ -67,6 +67,22 @@ public class JSONTest {
         Assert.assertEquals(returns[0].stringValue(), "Jack");
     }
 
+    @Test(description = "Get a string from an array element in a plain jsonpath")
+    public void testGetStringFromArrayElement() {
+        BValue[] args = {new BJSON(jsonElementArray), new BString("$.persons[1].fname")};
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "getString", args);
+
+        Assert.assertEquals(returns[0].stringValue(), "Peter");
+    }
+
+    @Test(description = "Get a json with a filter jsonpath")
+    public void testGetJSONWithFilter() {
+        BValue[] args = {new BJSON(jsonElementArray), new BString("$..persons[?(@.lname == 'Roy')].fname")};
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "getJson", args);
+
+        Assert.assertEquals(returns[0].stringValue(), "[\"Peter\"]");
+    }
+
     @Test(description = "Get an integer in a valid jsonpath")
     public void testGetInt() {
         BValue[] args = {new BJSON(json1), new BString("$.age")};
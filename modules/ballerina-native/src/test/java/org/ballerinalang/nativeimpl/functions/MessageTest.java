@@ -18,13 +18,17 @@
 package org.ballerinalang.nativeimpl.functions;
 
 import org.ballerinalang.model.BLangProgram;
+import org.ballerinalang.model.StreamingJSONDataSource;
 import org.ballerinalang.model.values.BJSON;
 import org.ballerinalang.model.values.BMessage;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.model.values.BXML;
 import org.ballerinalang.nativeimpl.util.BTestUtils;
+import org.ballerinalang.runtime.message.BallerinaMessageDataSource;
+import org.ballerinalang.runtime.message.BlobDataSource;
 import org.ballerinalang.runtime.message.StringDataSource;
+import org.ballerinalang.util.exceptions.BallerinaException;
 import org.ballerinalang.util.program.BLangFunctions;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
@@ -34,6 +38,10 @@ import org.wso2.carbon.messaging.Header;
 import org.wso2.carbon.messaging.MapCarbonMessage;
 import org.wso2.carbon.messaging.MessageDataSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -59,6 +67,86 @@ public class MessageTest {
         Assert.assertEquals(returns[0].stringValue(), payload);
     }
 
+    @Test
+    public void testGetJSONPayloadElement() {
+        DefaultCarbonMessage carbonMsg = new DefaultCarbonMessage();
+        final String payload = "{\"items\":[{\"name\":\"Apple\",\"tags\":[\"fruit\"]},{\"name\":\"Carrot\"}]}";
+        carbonMsg.setStringMessageBody(payload);
+        BMessage msg = new BMessage(carbonMsg);
+        BValue[] args = { msg };
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "testGetJSONPayloadElement", args);
+        Assert.assertEquals(returns[0].stringValue(), "Carrot");
+        Assert.assertEquals(msg.getMessageDataSource().getMessageAsString(), payload);
+    }
+
+    @Test
+    public void testJSONPayloadPassThrough() {
+        final String payload = "{ \"name\" : \"Jack\",\n  \"address\" : \"WSO2\" }";
+        BJSON json = new BJSON(new StreamingJSONDataSource(
+                new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8))));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        json.setOutputStream(out);
+        json.serializeData();
+        // The payload is written out as it was received, without being re-formatted
+        Assert.assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), payload);
+        Assert.assertEquals(json.value().get("address").asText(), "WSO2");
+    }
+
+    @Test
+    public void testGetJSONPayloadMalformed() {
+        DefaultCarbonMessage carbonMsg = new DefaultCarbonMessage();
+        final String payload = "{\"name\":\"Jack\",";
+        carbonMsg.setStringMessageBody(payload);
+        BValue[] args = { new BMessage(carbonMsg) };
+        // The payload is not parsed when it is read, so a malformed payload can still be forwarded as it is
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "testGetJSONPayload", args);
+        BJSON json = (BJSON) returns[0];
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        json.setOutputStream(out);
+        json.serializeData();
+        Assert.assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), payload);
+
+        // The error is raised where the json is first accessed
+        try {
+            json.value();
+            Assert.fail("Malformed json payload was accessed without an error");
+        } catch (BallerinaException e) {
+            Assert.assertTrue(e.getMessage().startsWith("failed to create json: "), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testPassThroughPayload() {
+        DefaultCarbonMessage carbonMsg = new DefaultCarbonMessage();
+        final String payload = "Hello World...!!!";
+        carbonMsg.setStringMessageBody(payload);
+        BMessage msg = new BMessage(carbonMsg);
+        Assert.assertTrue(msg.isPassThrough());
+        // Once the payload is read it is kept on the message, so that it can still be sent out
+        Assert.assertEquals(msg.stringValue(), payload);
+        Assert.assertFalse(msg.isPassThrough());
+        Assert.assertEquals(msg.getMessageDataSource().getMessageAsString(), payload);
+    }
+
+    @Test
+    public void testReadPayloadKeepsReceivedBytes() {
+        // Not valid in the default charset, so decoding and encoding it again would change it
+        final byte[] payload = {(byte) 0xca, (byte) 0xfe, 0, (byte) 0xe9, 'a'};
+        DefaultCarbonMessage carbonMsg = new DefaultCarbonMessage();
+        carbonMsg.addMessageBody(ByteBuffer.wrap(payload));
+        carbonMsg.setEndOfMsgAdded(true);
+        BMessage msg = new BMessage(carbonMsg);
+        // Logging the message reads the payload
+        Assert.assertNotNull(msg.stringValue());
+
+        BallerinaMessageDataSource dataSource = msg.getMessageDataSource();
+        Assert.assertTrue(dataSource instanceof BlobDataSource);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        dataSource.setOutputStream(out);
+        dataSource.serializeData();
+        Assert.assertEquals(out.toByteArray(), payload);
+    }
+
     @Test
     public void testSetJSONPayload() {
         DefaultCarbonMessage carbonMsg = new DefaultCarbonMessage();
@@ -146,6 +146,22 @@ public class XMLTest {
                 "</name><address>wso2</address></person></persons>");
     }
 
+    @Test
+    public void testGetStringAfterSetString() {
+        BXML xml = new BXML(s1);
+        BValue[] args = {xml, new BString("/persons/person/name/text()")};
+        BValue[] returns = BLangFunctions.invoke(bLangProgram, "getString", args);
+        Assert.assertEquals(returns[0].stringValue(), "Jack");
+
+        // The document cached by the first read must not be used once the value is modified
+        args = new BValue[]{xml, new BString("/persons/person/name/text()"), new BString("Peter")};
+        BLangFunctions.invoke(bLangProgram, "setString", args);
+
+        args = new BValue[]{xml, new BString("/persons/person/name/text()")};
+        returns = BLangFunctions.invoke(bLangProgram, "getString", args);
+        Assert.assertEquals(returns[0].stringValue(), "Peter");
+    }
+
     @Test
     public void testSetStringToNonExistingElement() {
         BValue[] args = {new BXML(s1), new BString("/xxx/text()"), new BString("Peter")};
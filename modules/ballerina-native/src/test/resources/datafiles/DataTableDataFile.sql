@@ -64,4 +64,12 @@ PRIMARY KEY (row_id
 INSERT INTO MixTypes (int_type, long_type, float_type, double_type, boolean_type, string_type, int_array, long_array, float_array, double_array, boolean_array, string_array)
 VALUES 1, 9223372036854774807, 123.34, 2139095039, TRUE, 'Hello', ARRAY [1, 2, 3], ARRAY [100000000, 200000000, 300000000], ARRAY [245.23, 5559.49, 8796.123],
   ARRAY [245.23, 5559.49, 8796.123], ARRAY [TRUE, FALSE, TRUE], ARRAY ['Hello', 'Ballerina'];
-/
\ No newline at end of file
+/
+CREATE TABLE IF NOT EXISTS DataTableRep(
+  row_id   INTEGER NOT NULL IDENTITY,
+  int_type INTEGER,
+  PRIMARY KEY (row_id)
+);
+/
+insert into DataTableRep (int_type) values (100);
+/
@@ -239,4 +239,32 @@ function getArrayByIndex()(map int_arr, map long_arr, map double_arr, map string
     }
     datatables:close(df);
     return;
-}
\ No newline at end of file
+}
+
+function toJsonDuplicateColumns()(json) {
+    map propertiesMap = {"jdbcUrl" : "jdbc:hsqldb:file:./target/tempdb/TEST_DATA_TABLE_DB",
+                            "username":"SA", "password":"", "maximumPoolSize":1};
+    sql:ClientConnector testDB = create sql:ClientConnector(propertiesMap);
+    sql:Parameter[] parameters=[];
+    datatable df;
+    json result;
+
+    df = sql:ClientConnector.select(testDB, "SELECT dt1.int_type, dt2.int_type, dt1.string_type from DataTable dt1,
+                DataTableRep dt2 LIMIT 1",parameters);
+    result = datatables:toJson(df);
+    return result;
+}
+
+function toXmlDuplicateColumns()(xml) {
+    map propertiesMap = {"jdbcUrl" : "jdbc:hsqldb:file:./target/tempdb/TEST_DATA_TABLE_DB",
+                            "username":"SA", "password":"", "maximumPoolSize":1};
+    sql:ClientConnector testDB = create sql:ClientConnector(propertiesMap);
+    sql:Parameter[] parameters=[];
+    datatable df;
+    xml result;
+
+    df = sql:ClientConnector.select(testDB, "SELECT dt1.int_type, dt2.int_type, dt1.string_type from DataTable dt1,
+                DataTableRep dt2 LIMIT 1",parameters);
+    result = datatables:toXml(df, "types", "type");
+    return result;
+}
@@ -1,10 +1,16 @@
 import ballerina.lang.messages;
+import ballerina.lang.jsons;
 import ballerina.lang.system;
 
 function testGetJSONPayload(message msg) (json){
     return messages:getJsonPayload(msg);
 }
 
+function testGetJSONPayloadElement(message msg) (string){
+    json payload = messages:getJsonPayload(msg);
+    return jsons:getString(payload, "$.items[1].name");
+}
+
 function testSetJSONPayload(message msg, json payload) (message){
     messages:setJsonPayload(msg, payload);
     return msg;
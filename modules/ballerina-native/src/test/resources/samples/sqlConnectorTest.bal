@@ -140,6 +140,22 @@ function testConnectionPoolProperties() (string) {
     return firstName;
 }
 
+function testStatementCacheAndFetchSize() (string) {
+    map propertiesMap = {"jdbcUrl" : "jdbc:hsqldb:file:./target/tempdb/TEST_SQL_CONNECTOR",
+        "username":"SA", "password":"", "maximumPoolSize":1, "statementCacheSize":100, "fetchSize":10};
+    sql:ClientConnector testDB = create sql:ClientConnector(propertiesMap);
+
+    string firstName;
+    sql:Parameter[] parameters=[];
+    datatable dt = sql:ClientConnector.select(testDB, "SELECT  FirstName from Customers where registrationID = 1",
+        parameters);
+    while (datatables:next(dt)) {
+        firstName = datatables:getString(dt, 1);
+    }
+    datatables:close(dt);
+    return firstName;
+}
+
 function testQueryParameters() (string) {
     map propertiesMap = {"jdbcUrl" : "jdbc:hsqldb:file:./target/tempdb/TEST_SQL_CONNECTOR",
             "username":"SA", "password":"", "maximumPoolSize":1};
@@ -173,3 +189,30 @@ function testInsertTableDataWithParameters() (int) {
     return insertCount;
 }
 
+
+function testBatchUpdate() (int[]) {
+    map propertiesMap = {"jdbcUrl" : "jdbc:hsqldb:file:./target/tempdb/TEST_SQL_CONNECTOR",
+        "username":"SA", "password":"", "maximumPoolSize":1};
+    sql:ClientConnector testDB = create sql:ClientConnector(propertiesMap);
+
+    sql:Parameter para1 = {sqlType:"varchar", value:"Alex", direction:0};
+    sql:Parameter para2 = {sqlType:"varchar", value:"Smith", direction:0};
+    sql:Parameter para3 = {sqlType:"integer", value:"20", direction:0};
+    sql:Parameter para4 = {sqlType:"double", value:"3400.5", direction:0};
+    sql:Parameter para5 = {sqlType:"varchar", value:"Colombo", direction:0};
+    sql:Parameter[] parameters1 = [para1, para2, para3, para4, para5];
+    sql:ParameterRow row1 = {parameters:parameters1};
+
+    sql:Parameter para6 = {sqlType:"varchar", value:"Alex", direction:0};
+    sql:Parameter para7 = {sqlType:"varchar", value:"Smith", direction:0};
+    sql:Parameter para8 = {sqlType:"integer", value:"20", direction:0};
+    sql:Parameter para9 = {sqlType:"double", value:"3400.5", direction:0};
+    sql:Parameter para10 = {sqlType:"varchar", value:"Colombo", direction:0};
+    sql:Parameter[] parameters2 = [para6, para7, para8, para9, para10];
+    sql:ParameterRow row2 = {parameters:parameters2};
+
+    sql:ParameterRow[] rows = [row1, row2];
+    int[] updateCounts = sql:ClientConnector.batchUpdate(testDB, "Insert into Customers
+        (firstName,lastName,registrationID,creditLimit,country) values (?,?,?,?,?)", rows);
+    return updateCounts;
+}